@@ -0,0 +1,119 @@
+package me.shedaniel.clothconfig2.benchmark;
+
+import me.shedaniel.clothconfig2.impl.DropdownSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dropdown searches over synthetic registry like keys, compared with the linear search dropdowns used to do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DropdownSearchBenchmark {
+    private static final String[] WORDS = {"stone", "oak", "birch", "iron", "gold", "diamond", "redstone", "glass", "wool", "planks", "stairs", "slab", "ore", "block", "red", "blue"};
+    private static final int RANKED_RESULTS = 200;
+    @Param({"100", "1000", "10000", "100000"})
+    public int entryCount;
+    @Param({"stone"})
+    public String keyword;
+    private List<String> keys;
+    private DropdownSearchIndex index;
+    
+    @Setup
+    public void setup() {
+        Random random = new Random(0);
+        keys = new ArrayList<>(entryCount);
+        for (int i = 0; i < entryCount; i++)
+            keys.add("minecraft:" + WORDS[random.nextInt(WORDS.length)] + "_" + WORDS[random.nextInt(WORDS.length)] + "_" + i);
+        index = new DropdownSearchIndex(keys);
+    }
+    
+    /**
+     * Searches with a fresh index, including building the trigram index.
+     */
+    @Benchmark
+    public int[] coldSearch() {
+        return new DropdownSearchIndex(keys).search(keyword, RANKED_RESULTS, DropdownSearchBenchmark::similarity);
+    }
+    
+    @Benchmark
+    public int[] warmSearch() {
+        index.search("", RANKED_RESULTS, DropdownSearchBenchmark::similarity);
+        return index.search(keyword, RANKED_RESULTS, DropdownSearchBenchmark::similarity);
+    }
+    
+    /**
+     * Types the keyword one character at a time, each search narrowing the previous matches.
+     */
+    @Benchmark
+    public int[] typing() {
+        int[] results = index.search("", RANKED_RESULTS, DropdownSearchBenchmark::similarity);
+        for (int i = 1; i <= keyword.length(); i++)
+            results = index.search(keyword.substring(0, i), RANKED_RESULTS, DropdownSearchBenchmark::similarity);
+        return results;
+    }
+    
+    @Benchmark
+    public int[] firstPage() {
+        return index.searchPrefix("minecraft:" + keyword, 20);
+    }
+    
+    /**
+     * The search dropdowns did before the index, lowercasing every key and sorting every match by similarity.
+     */
+    @Benchmark
+    public List<String> linearSearch() {
+        List<String> matches = new ArrayList<>();
+        String lowerKeyword = keyword.toLowerCase();
+        for (String key : keys)
+            if (key.toLowerCase().contains(lowerKeyword))
+                matches.add(key);
+        matches.sort(Comparator.<String>comparingDouble(key -> similarity(key, lowerKeyword)).reversed());
+        return matches;
+    }
+    
+    // Copy of the similarity of DefaultDropdownMenuElement, which cannot be created without a client
+    private static double similarity(String s1, String s2) {
+        String longer = s1, shorter = s2;
+        if (s1.length() < s2.length()) {
+            longer = s2;
+            shorter = s1;
+        }
+        int longerLength = longer.length();
+        if (longerLength == 0)
+            return 1.0;
+        return (longerLength - editDistance(longer, shorter)) / (double) longerLength;
+    }
+    
+    private static int editDistance(String s1, String s2) {
+        s1 = s1.toLowerCase();
+        s2 = s2.toLowerCase();
+        int[] costs = new int[s2.length() + 1];
+        for (int i = 0; i <= s1.length(); i++) {
+            int lastValue = i;
+            for (int j = 0; j <= s2.length(); j++) {
+                if (i == 0)
+                    costs[j] = j;
+                else if (j > 0) {
+                    int newValue = costs[j - 1];
+                    if (s1.charAt(i - 1) != s2.charAt(j - 1))
+                        newValue = Math.min(Math.min(newValue, lastValue), costs[j]) + 1;
+                    costs[j - 1] = lastValue;
+                    lastValue = newValue;
+                }
+            }
+            if (i > 0)
+                costs[s2.length()] = lastValue;
+        }
+        return costs[s2.length()];
+    }
+}
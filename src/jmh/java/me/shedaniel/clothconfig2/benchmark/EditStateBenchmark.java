@@ -0,0 +1,63 @@
+package me.shedaniel.clothconfig2.benchmark;
+
+import me.shedaniel.clothconfig2.api.AbstractConfigEntry;
+import me.shedaniel.clothconfig2.impl.EditStateTracker;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The edited and error scans of {@link EditStateTracker}, which back the save button and error display of every frame.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EditStateBenchmark {
+    @Param({"100", "1000", "10000", "100000"})
+    public int entryCount;
+    private List<StubConfigEntry> entries;
+    private EditStateTracker tracker;
+    private int cursor;
+    
+    @Setup
+    public void setup() {
+        entries = new ArrayList<>(entryCount);
+        for (int i = 0; i < entryCount; i++)
+            entries.add(new StubConfigEntry(i));
+        tracker = new EditStateTracker(Collections.singletonList(new ArrayList<AbstractConfigEntry<?>>(entries)));
+        tracker.hasErrors();
+    }
+    
+    /**
+     * Re-evaluates every entry, like the scans done before the tracker was introduced.
+     */
+    @Benchmark
+    public boolean fullScan() {
+        tracker.markAllDirty();
+        return tracker.isEdited() | tracker.hasErrors();
+    }
+    
+    /**
+     * Edits a single entry and re-evaluates only that entry.
+     */
+    @Benchmark
+    public boolean incrementalScan() {
+        cursor = (cursor * 31 + 17) & Integer.MAX_VALUE;
+        StubConfigEntry entry = entries.get(cursor % entryCount);
+        entry.setValue(-entry.getValue() - 1);
+        tracker.markDirty(entry);
+        return tracker.isEdited() | tracker.hasErrors();
+    }
+    
+    @Benchmark
+    public int errors() {
+        tracker.markAllDirty();
+        return tracker.getErrors().size();
+    }
+}
@@ -0,0 +1,63 @@
+package me.shedaniel.clothconfig2.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Layout queries and hit testing of {@link me.shedaniel.clothconfig2.gui.widget.DynamicEntryListWidget}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListLayoutBenchmark {
+    @Param({"100", "1000", "10000", "100000"})
+    public int entryCount;
+    private StubListWidget widget;
+    private int maxOffset;
+    private int cursor;
+    
+    @Setup
+    public void setup() {
+        widget = new StubListWidget(entryCount);
+        maxOffset = widget.maxScrollPosition();
+    }
+    
+    private int nextIndex() {
+        cursor = (cursor * 31 + 17) & Integer.MAX_VALUE;
+        return cursor % entryCount;
+    }
+    
+    @Benchmark
+    public int rowTop() {
+        return widget.rowTop(nextIndex());
+    }
+    
+    @Benchmark
+    public int maxScrollPosition() {
+        return widget.maxScrollPosition();
+    }
+    
+    /**
+     * Resizes an entry before querying, which rebuilds the row offset index.
+     */
+    @Benchmark
+    public int maxScrollPositionAfterResize() {
+        StubListWidget.StubEntry entry = widget.children().get(nextIndex());
+        entry.setHeight(entry.getItemHeight() == 24 ? 42 : 24);
+        return widget.maxScrollPosition();
+    }
+    
+    @Benchmark
+    public int rowIndexAt() {
+        return widget.rowIndexAt(nextIndex() % maxOffset);
+    }
+    
+    @Benchmark
+    public Object itemAtPosition() {
+        return widget.itemAtPosition(200, nextIndex() % 300);
+    }
+}
@@ -0,0 +1,73 @@
+package me.shedaniel.clothconfig2.benchmark;
+
+import me.shedaniel.clothconfig2.api.AbstractConfigEntry;
+import me.shedaniel.clothconfig2.impl.ReferenceTree;
+import net.minecraft.text.LiteralText;
+import net.minecraft.text.Text;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the side bar reference tree of nested entries, as done by the globalized config screen on init
+ * and whenever an entry requests its references to be rebuilt.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReferenceTreeBenchmark {
+    private static final int FAN_OUT = 10;
+    @Param({"100", "1000", "10000", "100000"})
+    public int entryCount;
+    private Map<Text, List<AbstractConfigEntry<?>>> categories;
+    private List<AbstractConfigEntry<?>> entries;
+    private ReferenceTree<ReferenceTree.Node> tree;
+    private int cursor;
+    
+    @Setup
+    public void setup() {
+        // Top level entries with two levels of subcategories below them, 111 entries per tree
+        entries = new ArrayList<>();
+        for (int i = 0; i < Math.max(1, entryCount / (1 + FAN_OUT + FAN_OUT * FAN_OUT)); i++)
+            entries.add(StubConfigEntry.tree(2, FAN_OUT));
+        categories = Collections.singletonMap(new LiteralText("Category"), entries);
+        tree = new ReferenceTree<>(new ReferenceTree.NodeFactory<ReferenceTree.Node>() {
+            @Override
+            public ReferenceTree.Node createCategoryNode(Text category) {
+                return new ReferenceTree.Node(null, 0);
+            }
+            
+            @Override
+            public ReferenceTree.Node createEntryNode(AbstractConfigEntry<?> entry, int indent) {
+                return new ReferenceTree.Node(entry, indent);
+            }
+        }, ReferenceTree.Node::getIndent);
+        tree.rebuild(categories);
+    }
+    
+    /**
+     * Rebuilds every reference, like the screen does on init.
+     */
+    @Benchmark
+    public int rebuildAll() {
+        tree.rebuild(categories);
+        return tree.getNodes().size();
+    }
+    
+    /**
+     * Rebuilds the references of a single top level entry, like the screen does when an entry requests it.
+     */
+    @Benchmark
+    public int rebuildEntry() {
+        cursor = (cursor + 1) % entries.size();
+        tree.rebuild(entries.get(cursor));
+        return tree.getNodes().size();
+    }
+}
@@ -0,0 +1,98 @@
+package me.shedaniel.clothconfig2.benchmark;
+
+import me.shedaniel.clothconfig2.api.AbstractConfigEntry;
+import me.shedaniel.clothconfig2.api.ReferenceProvider;
+import net.minecraft.client.gui.Element;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.text.LiteralText;
+import net.minecraft.text.Text;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A config entry holding an int without any widgets, negative values are errors.
+ */
+class StubConfigEntry extends AbstractConfigEntry<Integer> {
+    private static final Text FIELD_NAME = new LiteralText("Stub");
+    private static final Text ERROR = new LiteralText("Negative");
+    private final int original;
+    private int value;
+    private boolean requiresRestart;
+    
+    StubConfigEntry(int value) {
+        this.original = value;
+        this.value = value;
+        setErrorSupplier(() -> this.value < 0 ? Optional.of(ERROR) : Optional.empty());
+    }
+    
+    /**
+     * Builds a subcategory like tree of entries, every entry with children references them as reference providers.
+     *
+     * @param depth  the number of levels below this entry
+     * @param fanOut  the number of children of every entry with children
+     */
+    static StubConfigEntry tree(int depth, int fanOut) {
+        StubConfigEntry entry = new StubConfigEntry(0);
+        if (depth > 0) {
+            List<ReferenceProvider<?>> children = new ArrayList<>(fanOut);
+            for (int i = 0; i < fanOut; i++)
+                children.add(tree(depth - 1, fanOut));
+            entry.setReferenceProviderEntries(children);
+        }
+        return entry;
+    }
+    
+    void setValue(int value) {
+        this.value = value;
+        notifyValueChanged();
+    }
+    
+    @Override
+    public boolean isRequiresRestart() {
+        return requiresRestart;
+    }
+    
+    @Override
+    public void setRequiresRestart(boolean requiresRestart) {
+        this.requiresRestart = requiresRestart;
+    }
+    
+    @Override
+    public Text getFieldName() {
+        return FIELD_NAME;
+    }
+    
+    @Override
+    public Integer getValue() {
+        return value;
+    }
+    
+    @Override
+    protected Object getValidationKey() {
+        return value;
+    }
+    
+    @Override
+    public Optional<Integer> getDefaultValue() {
+        return Optional.of(original);
+    }
+    
+    @Override
+    public void save() {}
+    
+    @Override
+    public boolean isEdited() {
+        return value != original || super.isEdited();
+    }
+    
+    @Override
+    public List<? extends Element> children() {
+        return Collections.emptyList();
+    }
+    
+    @Override
+    public void render(MatrixStack matrices, int index, int y, int x, int entryWidth, int entryHeight, int mouseX, int mouseY, boolean isHovered, float delta) {}
+}
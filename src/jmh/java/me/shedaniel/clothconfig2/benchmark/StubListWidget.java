@@ -0,0 +1,55 @@
+package me.shedaniel.clothconfig2.benchmark;
+
+import me.shedaniel.clothconfig2.gui.widget.DynamicEntryListWidget;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.util.Identifier;
+
+/**
+ * A list widget without a client, exposing the layout methods of {@link DynamicEntryListWidget}.
+ */
+class StubListWidget extends DynamicEntryListWidget<StubListWidget.StubEntry> {
+    static final Identifier BACKGROUND = new Identifier("minecraft:textures/block/dirt.png");
+    
+    StubListWidget(int entryCount) {
+        super(null, 400, 300, 0, 300, BACKGROUND);
+        for (int i = 0; i < entryCount; i++)
+            addItem(new StubEntry(i % 7 == 0 ? 42 : 24));
+    }
+    
+    int rowTop(int index) {
+        return getRowTop(index);
+    }
+    
+    int maxScrollPosition() {
+        return getMaxScrollPosition();
+    }
+    
+    int rowIndexAt(int offset) {
+        return getRowIndexAt(offset);
+    }
+    
+    StubEntry itemAtPosition(double mouseX, double mouseY) {
+        return getItemAtPosition(mouseX, mouseY);
+    }
+    
+    static class StubEntry extends DynamicEntryListWidget.Entry<StubEntry> {
+        private int height;
+        
+        StubEntry(int height) {
+            this.height = height;
+        }
+        
+        void setHeight(int height) {
+            this.height = height;
+            invalidateLayout();
+        }
+        
+        @Override
+        public void render(MatrixStack matrices, int index, int y, int x, int entryWidth, int entryHeight, int mouseX, int mouseY, boolean isHovered, float delta) {}
+        
+        @Override
+        public int getItemHeight() {
+            return height;
+        }
+    }
+}
@@ -3,8 +3,10 @@ package me.shedaniel.clothconfig2.api;
 import me.shedaniel.clothconfig2.gui.AbstractConfigScreen;
 import me.shedaniel.clothconfig2.gui.ClothConfigScreen;
 import me.shedaniel.clothconfig2.gui.widget.DynamicElementListWidget;
+import me.shedaniel.clothconfig2.impl.AsyncValidator;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
+import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.text.MutableText;
 import net.minecraft.text.Text;
@@ -15,6 +17,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -22,8 +25,25 @@ import java.util.stream.Collectors;
 public abstract class AbstractConfigEntry<T> extends DynamicElementListWidget.ElementEntry<AbstractConfigEntry<T>> implements ReferenceProvider<T> {
     private AbstractConfigScreen screen;
     private Supplier<Optional<Text>> errorSupplier;
+    private boolean errorSupplierPure = true;
+    @Nullable
+    private Object validationKey = null;
+    @Nullable
+    private Optional<Text> cachedConfigError = null;
+    @Nullable
+    private AsyncValidator<T> asyncValidator = null;
     @Nullable
     private List<ReferenceProvider<?>> referencableEntries = null;
+    @Nullable
+    private Text displayedFieldName = null;
+    @Nullable
+    private Text displayedFieldNameSource = null;
+    private int displayedFieldNameState = -1;
+    private int displayedFieldNameGeneration;
+    private boolean displayedFieldNameDirty = true;
+    @Nullable
+    private Text measuredFieldName = null;
+    private int measuredFieldNameWidth;
     
     @Deprecated
     @ApiStatus.ScheduledForRemoval
@@ -38,7 +58,7 @@ public abstract class AbstractConfigEntry<T> extends DynamicElementListWidget.El
     public void requestReferenceRebuilding() {
         AbstractConfigScreen configScreen = getConfigScreen();
         if (configScreen instanceof ReferenceBuildingConfigScreen) {
-            ((ReferenceBuildingConfigScreen) configScreen).requestReferenceRebuilding();
+            ((ReferenceBuildingConfigScreen) configScreen).requestReferenceRebuilding(this);
         }
     }
     
@@ -67,31 +87,166 @@ public abstract class AbstractConfigEntry<T> extends DynamicElementListWidget.El
     
     public abstract Text getFieldName();
     
+    /**
+     * Gets the field name formatted with the edited and error state of this entry,
+     * the state is only evaluated again after {@link #notifyValueChanged()} or {@link AbstractConfigScreen#markEntryStatesDirty()},
+     * or every time if the error supplier is not pure.
+     */
     public Text getDisplayedFieldName() {
-        MutableText text = getFieldName().shallowCopy();
-        boolean hasError = getConfigError().isPresent();
-        boolean isEdited = isEdited();
+        Text fieldName = getFieldName();
+        int generation = screen == null ? 0 : screen.getEntryStateGeneration();
+        if (displayedFieldNameDirty || !errorSupplierPure || displayedFieldNameGeneration != generation) {
+            boolean hasError = getConfigError().isPresent();
+            boolean isEdited = isEdited();
+            boolean isValidating = !hasError && isValidating();
+            int state = (hasError ? 1 : 0) | (isEdited ? 2 : 0) | (isValidating ? 4 : 0);
+            if (displayedFieldNameState != state)
+                displayedFieldName = null;
+            displayedFieldNameState = state;
+            displayedFieldNameGeneration = generation;
+            displayedFieldNameDirty = false;
+        }
+        if (displayedFieldName != null && displayedFieldNameSource == fieldName)
+            return displayedFieldName;
+        int state = displayedFieldNameState;
+        boolean hasError = (state & 1) != 0;
+        boolean isEdited = (state & 2) != 0;
+        boolean isValidating = (state & 4) != 0;
+        MutableText text = fieldName.shallowCopy();
         if (hasError)
             text = text.formatted(Formatting.RED);
+        else if (isValidating)
+            text = text.formatted(Formatting.YELLOW);
         if (isEdited)
             text = text.formatted(Formatting.ITALIC);
-        if (!hasError && !isEdited)
+        if (!hasError && !isEdited && !isValidating)
             text = text.formatted(Formatting.GRAY);
+        displayedFieldName = text;
+        displayedFieldNameSource = fieldName;
         return text;
     }
     
+    /**
+     * Gets the width of the text last returned by {@link #getDisplayedFieldName()}, measured again only if that text changed.
+     */
+    public int getDisplayedFieldNameWidth() {
+        Text text = displayedFieldName != null ? displayedFieldName : getDisplayedFieldName();
+        if (measuredFieldName != text) {
+            measuredFieldName = text;
+            measuredFieldNameWidth = MinecraftClient.getInstance().textRenderer.getWidth(text);
+        }
+        return measuredFieldNameWidth;
+    }
+    
     public abstract T getValue();
     
     public final Optional<Text> getConfigError() {
-        if (errorSupplier != null && errorSupplier.get().isPresent())
-            return errorSupplier.get();
-        return getError();
+        Object key = errorSupplierPure ? getValidationKey() : null;
+        if (key == null) {
+            cachedConfigError = null;
+            return computeConfigError();
+        }
+        if (cachedConfigError == null || !key.equals(validationKey)) {
+            validationKey = key;
+            cachedConfigError = computeConfigError();
+        }
+        return cachedConfigError;
+    }
+    
+    private Optional<Text> computeConfigError() {
+        if (errorSupplier != null) {
+            Optional<Text> error = errorSupplier.get();
+            if (error.isPresent())
+                return error;
+        }
+        Optional<Text> error = getError();
+        if (error.isPresent() || asyncValidator == null)
+            return error;
+        Optional<Text> asyncError = asyncValidator.validate(getValue());
+        return asyncError == null ? Optional.empty() : asyncError;
+    }
+    
+    /**
+     * Gets the raw value the errors of this entry are derived from, validation results are cached until it changes.
+     * Entries whose errors are not derived from a single immutable value should return {@code null} to disable caching.
+     *
+     * @return the validation key, or {@code null} if validation results should not be cached
+     */
+    @Nullable
+    protected Object getValidationKey() {
+        return null;
+    }
+    
+    /**
+     * Discards the cached validation result of this entry.
+     */
+    public void invalidateConfigError() {
+        this.cachedConfigError = null;
+        this.displayedFieldNameDirty = true;
     }
     
     public void lateRender(MatrixStack matrices, int mouseX, int mouseY, float delta) {}
     
     public void setErrorSupplier(Supplier<Optional<Text>> errorSupplier) {
         this.errorSupplier = errorSupplier;
+        invalidateConfigError();
+    }
+    
+    public boolean isErrorSupplierPure() {
+        return errorSupplierPure;
+    }
+    
+    /**
+     * Sets whether the error supplier only depends on the value of this entry.
+     * Impure error suppliers are evaluated every time instead of once per edit.
+     *
+     * @param errorSupplierPure whether the error supplier is pure
+     */
+    public void setErrorSupplierPure(boolean errorSupplierPure) {
+        this.errorSupplierPure = errorSupplierPure;
+        invalidateConfigError();
+    }
+    
+    /**
+     * Sets an error supplier which is evaluated on a background thread, it runs after the synchronous
+     * error suppliers passed and once the value stayed unchanged for {@code debounceMillis}.
+     * The entry reports no error while its value is being validated, see {@link #isValidating()}.
+     *
+     * @param asyncErrorSupplier the error supplier, or {@code null} to remove it
+     * @param debounceMillis     the time the value has to stay unchanged before it is validated
+     */
+    public void setAsyncErrorSupplier(@Nullable Function<T, Optional<Text>> asyncErrorSupplier, long debounceMillis) {
+        if (this.asyncValidator != null)
+            this.asyncValidator.cancel();
+        this.asyncValidator = asyncErrorSupplier == null ? null : new AsyncValidator<>(asyncErrorSupplier, debounceMillis, () -> {
+            invalidateConfigError();
+            notifyValueChanged();
+        });
+        invalidateConfigError();
+    }
+    
+    /**
+     * Gets whether the background error supplier of this entry has not settled yet.
+     *
+     * @return whether the entry is being validated
+     */
+    public boolean isValidating() {
+        return asyncValidator != null && asyncValidator.isValidating();
+    }
+    
+    /**
+     * Blocks until the background error supplier of this entry has settled.
+     *
+     * @param timeoutMillis the maximum time to wait
+     * @return whether the validation settled in time
+     */
+    public boolean awaitValidation(long timeoutMillis) {
+        if (!isValidating())
+            return true;
+        boolean settled = asyncValidator.await(timeoutMillis);
+        invalidateConfigError();
+        notifyValueChanged();
+        return settled;
     }
     
     public Optional<Text> getError() {
@@ -123,10 +278,67 @@ public abstract class AbstractConfigEntry<T> extends DynamicElementListWidget.El
     @ApiStatus.Internal
     public final void setScreen(AbstractConfigScreen screen) {
         this.screen = screen;
+        this.displayedFieldNameDirty = true;
     }
     
     public abstract void save();
     
+    /**
+     * Notifies the config screen that the value of this entry may have changed,
+     * the edited and error states of this entry are then re-evaluated lazily.
+     * This is called automatically whenever this entry handles an input event.
+     */
+    public void notifyValueChanged() {
+        this.displayedFieldNameDirty = true;
+        if (screen != null)
+            screen.markEntryStateDirty(this);
+    }
+    
+    @Override
+    public boolean mouseClicked(double mouseX, double mouseY, int button) {
+        if (super.mouseClicked(mouseX, mouseY, button)) {
+            notifyValueChanged();
+            return true;
+        }
+        return false;
+    }
+    
+    @Override
+    public boolean mouseReleased(double mouseX, double mouseY, int button) {
+        if (super.mouseReleased(mouseX, mouseY, button)) {
+            notifyValueChanged();
+            return true;
+        }
+        return false;
+    }
+    
+    @Override
+    public boolean mouseDragged(double mouseX, double mouseY, int button, double deltaX, double deltaY) {
+        if (super.mouseDragged(mouseX, mouseY, button, deltaX, deltaY)) {
+            notifyValueChanged();
+            return true;
+        }
+        return false;
+    }
+    
+    @Override
+    public boolean keyPressed(int keyCode, int scanCode, int modifiers) {
+        if (super.keyPressed(keyCode, scanCode, modifiers)) {
+            notifyValueChanged();
+            return true;
+        }
+        return false;
+    }
+    
+    @Override
+    public boolean charTyped(char chr, int keyCode) {
+        if (super.charTyped(chr, keyCode)) {
+            notifyValueChanged();
+            return true;
+        }
+        return false;
+    }
+    
     public boolean isEdited() {
         return getConfigError().isPresent();
     }
@@ -101,6 +101,16 @@ public interface ConfigBuilder {
         return setTransparentBackground(false);
     }
     
+    /**
+     * Sets whether entries scrolled out of view are skipped when rendering the entry list.
+     * Entries relying on being rendered every frame should keep this disabled.
+     */
+    ConfigBuilder setEntryCulling(boolean entryCulling);
+    
+    default ConfigBuilder entryCulling() {
+        return setEntryCulling(true);
+    }
+    
     @Deprecated
     default ConfigEntryBuilderImpl getEntryBuilder() {
         return (ConfigEntryBuilderImpl) entryBuilder();
@@ -0,0 +1,60 @@
+package me.shedaniel.clothconfig2.api;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.text.Text;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Receives the timings of building, opening and saving config screens.
+ * Implementations are registered with the {@code cloth-config2-metrics} entrypoint.
+ */
+@Environment(EnvType.CLIENT)
+public interface ConfigMetrics {
+    /**
+     * Starts a span, the returned span is ended on the same thread.
+     *
+     * @param type      the type of the span
+     * @param screen    the title of the config screen
+     * @param category  the category covered by the span, or {@code null} if it covers every category
+     * @param fieldName the field name of the saved entry of a {@link SpanType#SAVE_ENTRY} span, otherwise {@code null}
+     * @return the started span
+     */
+    Span begin(SpanType type, Text screen, @Nullable Text category, @Nullable Text fieldName);
+    
+    @Environment(EnvType.CLIENT)
+    interface Span {
+        Span NONE = entryCount -> {};
+        
+        /**
+         * Ends the span.
+         *
+         * @param entryCount the number of entries covered by the span
+         */
+        void end(int entryCount);
+    }
+    
+    @Environment(EnvType.CLIENT)
+    enum SpanType {
+        /**
+         * {@link ConfigBuilder#build()} creating the screen from the built entries.
+         */
+        BUILD,
+        /**
+         * The screen initializing its widgets, this happens again after resizing.
+         */
+        INIT,
+        /**
+         * The first rendered frame of the screen.
+         */
+        FIRST_FRAME,
+        /**
+         * Saving every entry and running the saving runnable.
+         */
+        SAVE_ALL,
+        /**
+         * The save consumer of a single entry.
+         */
+        SAVE_ENTRY
+    }
+}
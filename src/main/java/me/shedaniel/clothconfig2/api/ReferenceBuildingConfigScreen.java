@@ -2,4 +2,13 @@ package me.shedaniel.clothconfig2.api;
 
 public interface ReferenceBuildingConfigScreen extends ConfigScreen {
     void requestReferenceRebuilding();
+    
+    /**
+     * Requests the references of an entry and its children to be rebuilt, screens may rebuild every reference instead.
+     *
+     * @param entry the entry whose references changed
+     */
+    default void requestReferenceRebuilding(AbstractConfigEntry<?> entry) {
+        requestReferenceRebuilding();
+    }
 }
@@ -17,6 +17,13 @@ public interface ScissorsHandler {
     
     void scissor(Rectangle rectangle);
     
+    /**
+     * Pushes a scissor area without allocating a {@link Rectangle}.
+     */
+    default void scissor(int x, int y, int width, int height) {
+        scissor(new Rectangle(x, y, width, height));
+    }
+    
     void removeLastScissor();
     
     void applyScissors();
@@ -28,11 +28,11 @@ import com.mojang.blaze3d.systems.RenderSystem;
 import me.shedaniel.clothconfig2.ClothConfigInitializer;
 import me.shedaniel.clothconfig2.gui.widget.DynamicEntryListWidget;
 import me.shedaniel.clothconfig2.impl.EasingMethod;
+import me.shedaniel.clothconfig2.impl.FrameClock;
+import me.shedaniel.clothconfig2.impl.QuadBatcher;
+import me.shedaniel.clothconfig2.impl.ScrollAnimator;
 import me.shedaniel.math.Rectangle;
 import me.shedaniel.math.impl.PointHelper;
-import net.minecraft.client.render.BufferBuilder;
-import net.minecraft.client.render.Tessellator;
-import net.minecraft.client.render.VertexFormats;
 import net.minecraft.util.math.MathHelper;
 
 public abstract class ScrollingContainer {
@@ -41,6 +41,7 @@ public abstract class ScrollingContainer {
     public long start;
     public long duration;
     public boolean draggingScrollBar = false;
+    private final ScrollAnimator animator = new ScrollAnimator();
     
     public abstract Rectangle getBounds();
     
@@ -86,33 +87,33 @@ public abstract class ScrollingContainer {
         scrollTarget = clamp(value);
         
         if (animated) {
-            start = System.currentTimeMillis();
+            start = FrameClock.currentTimeMillis();
             this.duration = duration;
         } else
             scrollAmount = scrollTarget;
     }
     
     public void updatePosition(float delta) {
-        double[] target = new double[]{this.scrollTarget};
-        this.scrollAmount = handleScrollingPosition(target, this.scrollAmount, this.getMaxScroll(), delta, this.start, this.duration);
-        this.scrollTarget = target[0];
+        this.animator.set(this.scrollAmount, this.scrollTarget).update(this, this.getMaxScroll(), delta, this.start, this.duration);
+        this.scrollAmount = animator.getPosition();
+        this.scrollTarget = animator.getTarget();
     }
     
+    /**
+     * @deprecated use {@link ScrollAnimator} to avoid allocating the target array.
+     */
+    @Deprecated
     public static double handleScrollingPosition(double[] target, double scroll, double maxScroll, float delta, double start, double duration) {
-        return handleScrollingPosition(target, scroll, maxScroll, delta, start, duration, ClothConfigInitializer.getBounceBackMultiplier(), ClothConfigInitializer.getEasingMethod());
+        return handleScrollingPosition(target, scroll, maxScroll, delta, start, duration, FrameClock.getBounceBackMultiplier(), FrameClock.getEasingMethod());
     }
     
+    /**
+     * @deprecated use {@link ScrollAnimator} to avoid allocating the target array.
+     */
+    @Deprecated
     public static double handleScrollingPosition(double[] target, double scroll, double maxScroll, float delta, double start, double duration, double bounceBackMultiplier, EasingMethod easingMethod) {
-        if (bounceBackMultiplier >= 0) {
-            target[0] = clampExtension(target[0], maxScroll);
-            if (target[0] < 0) {
-                target[0] -= target[0] * (1 - bounceBackMultiplier) * delta / 3;
-            } else if (target[0] > maxScroll) {
-                target[0] = (target[0] - maxScroll) * (1 - (1 - bounceBackMultiplier) * delta / 3) + maxScroll;
-            }
-        } else
-            target[0] = clampExtension(target[0], maxScroll, 0);
-        return ease(scroll, target[0], Math.min((System.currentTimeMillis() - start) / duration * delta * 3, 1), easingMethod);
+        target[0] = ScrollAnimator.stepTarget(target[0], maxScroll, delta, bounceBackMultiplier);
+        return ease(scroll, target[0], FrameClock.progress((long) start, duration, delta), easingMethod);
     }
     
     public static double ease(double start, double end, double amount, EasingMethod easingMethod) {
@@ -153,32 +154,10 @@ public abstract class ScrollingContainer {
             RenderSystem.disableAlphaTest();
             RenderSystem.blendFuncSeparate(770, 771, 1, 0);
             RenderSystem.shadeModel(7425);
-            Tessellator tessellator = Tessellator.getInstance();
-            BufferBuilder buffer = tessellator.getBuffer();
-            {
-                float a = (background >> 24 & 255) / 255.0F;
-                float r = (background >> 16 & 255) / 255.0F;
-                float g = (background >> 8 & 255) / 255.0F;
-                float b = (background & 255) / 255.0F;
-                buffer.begin(7, VertexFormats.POSITION_COLOR);
-                buffer.vertex(scrollbarPositionMinX, bounds.getMaxY(), 0.0D).color(r, g, b, a).next();
-                buffer.vertex(scrollbarPositionMaxX, bounds.getMaxY(), 0.0D).color(r, g, b, a).next();
-                buffer.vertex(scrollbarPositionMaxX, bounds.y, 0.0D).color(r, g, b, a).next();
-                buffer.vertex(scrollbarPositionMinX, bounds.y, 0.0D).color(r, g, b, a).next();
-            }
-            tessellator.draw();
-            buffer.begin(7, VertexFormats.POSITION_COLOR);
-            buffer.vertex(scrollbarPositionMinX, minY + height, 0.0D).color(bottomC, bottomC, bottomC, alpha).next();
-            buffer.vertex(scrollbarPositionMaxX, minY + height, 0.0D).color(bottomC, bottomC, bottomC, alpha).next();
-            buffer.vertex(scrollbarPositionMaxX, minY, 0.0D).color(bottomC, bottomC, bottomC, alpha).next();
-            buffer.vertex(scrollbarPositionMinX, minY, 0.0D).color(bottomC, bottomC, bottomC, alpha).next();
-            tessellator.draw();
-            buffer.begin(7, VertexFormats.POSITION_COLOR);
-            buffer.vertex(scrollbarPositionMinX, (minY + height - 1), 0.0D).color(topC, topC, topC, alpha).next();
-            buffer.vertex((scrollbarPositionMaxX - 1), (minY + height - 1), 0.0D).color(topC, topC, topC, alpha).next();
-            buffer.vertex((scrollbarPositionMaxX - 1), minY, 0.0D).color(topC, topC, topC, alpha).next();
-            buffer.vertex(scrollbarPositionMinX, minY, 0.0D).color(topC, topC, topC, alpha).next();
-            tessellator.draw();
+            QuadBatcher.fill(null, scrollbarPositionMinX, bounds.y, scrollbarPositionMaxX, bounds.getMaxY(), background);
+            QuadBatcher.fill(null, scrollbarPositionMinX, minY, scrollbarPositionMaxX, minY + height, QuadBatcher.color(bottomC, bottomC, bottomC, alpha));
+            QuadBatcher.fill(null, scrollbarPositionMinX, minY, scrollbarPositionMaxX - 1, minY + height - 1, QuadBatcher.color(topC, topC, topC, alpha));
+            QuadBatcher.flush();
             RenderSystem.shadeModel(7424);
             RenderSystem.disableBlend();
             RenderSystem.enableAlphaTest();
@@ -3,8 +3,15 @@ package me.shedaniel.clothconfig2.gui;
 import com.google.common.collect.Lists;
 import com.mojang.blaze3d.systems.RenderSystem;
 import it.unimi.dsi.fastutil.booleans.BooleanConsumer;
+import me.shedaniel.clothconfig2.ClothConfigInitializer;
 import me.shedaniel.clothconfig2.api.*;
 import me.shedaniel.clothconfig2.gui.entries.KeyCodeEntry;
+import me.shedaniel.clothconfig2.impl.AnimationScheduler;
+import me.shedaniel.clothconfig2.impl.EditStateTracker;
+import me.shedaniel.clothconfig2.impl.EntryRenderProfiler;
+import me.shedaniel.clothconfig2.impl.FrameClock;
+import me.shedaniel.clothconfig2.impl.FrameStatistics;
+import me.shedaniel.clothconfig2.impl.metrics.ConfigMetricsImpl;
 import me.shedaniel.math.Rectangle;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.Element;
@@ -23,6 +30,7 @@ import net.minecraft.util.Tickable;
 import net.minecraft.util.math.Matrix4f;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
+import org.lwjgl.glfw.GLFW;
 
 import java.util.List;
 import java.util.Map;
@@ -38,6 +46,7 @@ public abstract class AbstractConfigScreen extends Screen implements ConfigScree
     protected final Screen parent;
     private boolean alwaysShowTabs = false;
     private boolean transparentBackground = false;
+    private boolean entryCulling = false;
     @Nullable
     private Text defaultFallbackCategory = null;
     public int selectedCategoryIndex = 0;
@@ -49,6 +58,15 @@ public abstract class AbstractConfigScreen extends Screen implements ConfigScree
     private Runnable savingRunnable = null;
     @Nullable
     protected Consumer<Screen> afterInitConsumer = null;
+    @Nullable
+    private EditStateTracker editStateTracker = null;
+    @Nullable
+    private ConfigMetrics.Span firstFrameSpan = null;
+    private boolean firstFrameRendered = false;
+    private int entryStateGeneration;
+    private boolean savePending = false;
+    private boolean pendingSaveOpensOtherScreens;
+    private final AnimationScheduler animationScheduler = new AnimationScheduler();
     
     protected AbstractConfigScreen(Screen parent, Text title, Identifier backgroundLocation) {
         super(title);
@@ -74,29 +92,79 @@ public abstract class AbstractConfigScreen extends Screen implements ConfigScree
     @Override
     public boolean isRequiresRestart() {
         if (legacyRequiresRestart) return true;
-        for (List<AbstractConfigEntry<?>> entries : getCategorizedEntries().values()) {
-            for (AbstractConfigEntry<?> entry : entries) {
-                if (!entry.getConfigError().isPresent() && entry.isEdited() && entry.isRequiresRestart()) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return getEditStateTracker().isRequiresRestart();
     }
     
     public abstract Map<Text, List<AbstractConfigEntry<?>>> getCategorizedEntries();
     
+    @ApiStatus.Internal
+    public int getEntryCount() {
+        int count = 0;
+        for (List<AbstractConfigEntry<?>> entries : getCategorizedEntries().values())
+            count += entries.size();
+        return count;
+    }
+    
+    @ApiStatus.Internal
+    public EditStateTracker getEditStateTracker() {
+        if (editStateTracker == null)
+            editStateTracker = new EditStateTracker(getCategorizedEntries().values());
+        return editStateTracker;
+    }
+    
+    @ApiStatus.Internal
+    public void markEntryStateDirty(AbstractConfigEntry<?> entry) {
+        getEditStateTracker().markDirty(entry);
+        if (savePending && !isValidating()) {
+            savePending = false;
+            if (hasErrors())
+                ClothConfigInitializer.LOGGER.warn("[ClothConfig] Not saving %s, validation failed: %s", title.getString(), getErrors().get(0).getString());
+            else
+                MinecraftClient.getInstance().execute(() -> saveAll(pendingSaveOpensOtherScreens));
+        }
+    }
+    
+    /**
+     * Re-evaluates the edited and error states of every entry before they are queried next time.
+     */
+    public void markEntryStatesDirty() {
+        getEditStateTracker().markAllDirty();
+        entryStateGeneration++;
+    }
+    
+    /**
+     * Gets a counter that is incremented every time {@link #markEntryStatesDirty()} is called.
+     */
+    @ApiStatus.Internal
+    public int getEntryStateGeneration() {
+        return entryStateGeneration;
+    }
+    
     @Override
     public boolean isEdited() {
         if (legacyEdited) return true;
-        for (List<AbstractConfigEntry<?>> entries : getCategorizedEntries().values()) {
-            for (AbstractConfigEntry<?> entry : entries) {
-                if (entry.isEdited()) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return getEditStateTracker().isEdited();
+    }
+    
+    public boolean hasErrors() {
+        return getEditStateTracker().hasErrors();
+    }
+    
+    /**
+     * Gets whether a scroll or highlight animation is still moving, hosts may throttle redraws while nothing moves.
+     *
+     * @return whether the next frame may differ from the last one because of an animation
+     */
+    public boolean isAnimating() {
+        return animationScheduler.isAnimating();
+    }
+    
+    public List<Text> getErrors() {
+        return getEditStateTracker().getErrors();
+    }
+    
+    public boolean isValidating() {
+        return getEditStateTracker().isValidating();
     }
     
     /**
@@ -143,6 +211,15 @@ public abstract class AbstractConfigScreen extends Screen implements ConfigScree
         this.transparentBackground = transparentBackground;
     }
     
+    public boolean isEntryCulling() {
+        return entryCulling;
+    }
+    
+    @ApiStatus.Internal
+    public void setEntryCulling(boolean entryCulling) {
+        this.entryCulling = entryCulling;
+    }
+    
     public Text getFallbackCategory() {
         if (defaultFallbackCategory != null)
             return defaultFallbackCategory;
@@ -164,11 +241,26 @@ public abstract class AbstractConfigScreen extends Screen implements ConfigScree
     
     @Override
     public void saveAll(boolean openOtherScreens) {
-        for (List<AbstractConfigEntry<?>> entries : Lists.newArrayList(getCategorizedEntries().values()))
-            for (AbstractConfigEntry<?> entry : entries)
+        if (isValidating()) {
+            // Waiting for the background validations would block the render thread, the save is finished once they settled
+            this.savePending = true;
+            this.pendingSaveOpensOtherScreens = openOtherScreens;
+            return;
+        }
+        ConfigMetrics.Span saveSpan = ConfigMetricsImpl.begin(ConfigMetrics.SpanType.SAVE_ALL, title, null, null);
+        int savedCount = 0;
+        for (Map.Entry<Text, List<AbstractConfigEntry<?>>> category : Lists.newArrayList(getCategorizedEntries().entrySet())) {
+            for (AbstractConfigEntry<?> entry : category.getValue()) {
+                ConfigMetrics.Span entrySpan = ConfigMetricsImpl.begin(ConfigMetrics.SpanType.SAVE_ENTRY, title, category.getKey(), entry.getFieldName());
                 entry.save();
+                entrySpan.end(1);
+                savedCount++;
+            }
+        }
         save();
+        saveSpan.end(savedCount);
         setEdited(false);
+        markEntryStatesDirty();
         if (openOtherScreens) {
             if (isRequiresRestart())
                 AbstractConfigScreen.this.client.openScreen(new ClothRequiresRestartScreen(parent));
@@ -202,6 +294,8 @@ public abstract class AbstractConfigScreen extends Screen implements ConfigScree
     
     @ApiStatus.Internal
     public void setFocusedBinding(KeyCodeEntry focusedBinding) {
+        if (this.focusedBinding != null)
+            this.focusedBinding.notifyValueChanged();
         this.focusedBinding = focusedBinding;
         if (focusedBinding != null) {
             startedKeyCode = this.focusedBinding.getValue();
@@ -312,6 +406,10 @@ public abstract class AbstractConfigScreen extends Screen implements ConfigScree
         }
         if (this.focusedBinding != null && int_1 != 256)
             return true;
+        if (int_1 == GLFW.GLFW_KEY_F8 && hasControlDown() && EntryRenderProfiler.isAvailable()) {
+            EntryRenderProfiler.setEnabled(!EntryRenderProfiler.isEnabled());
+            return true;
+        }
         if (int_1 == 256 && this.shouldCloseOnEsc()) {
             return quit();
         }
@@ -351,6 +449,43 @@ public abstract class AbstractConfigScreen extends Screen implements ConfigScree
         return null;
     }
     
+    /**
+     * Starts measuring a frame and samples the frame clock, called at the start of {@link #render(MatrixStack, int, int, float)}.
+     */
+    protected void beginFrame() {
+        FrameStatistics.beginFrame();
+        FrameClock.beginFrame(animationScheduler);
+        if (!firstFrameRendered && firstFrameSpan == null)
+            firstFrameSpan = ConfigMetricsImpl.begin(ConfigMetrics.SpanType.FIRST_FRAME, title, null, null);
+    }
+    
+    /**
+     * Stops measuring a frame, called at the end of {@link #render(MatrixStack, int, int, float)}.
+     */
+    protected void endFrame() {
+        if (firstFrameSpan != null) {
+            firstFrameSpan.end(getEntryCount());
+            firstFrameSpan = null;
+            firstFrameRendered = true;
+        }
+        animationScheduler.sweep();
+        FrameClock.endFrame();
+        FrameStatistics.endFrame();
+    }
+    
+    @Override
+    protected void init() {
+        super.init();
+        animationScheduler.clear();
+    }
+    
+    @Override
+    public void removed() {
+        super.removed();
+        animationScheduler.clear();
+        savePending = false;
+    }
+    
     @Override
     public void render(MatrixStack matrices, int mouseX, int mouseY, float delta) {
         super.render(matrices, mouseX, mouseY, delta);
@@ -358,6 +493,10 @@ public abstract class AbstractConfigScreen extends Screen implements ConfigScree
             renderTooltip(matrices, tooltip.getText(), tooltip.getX(), tooltip.getY());
         }
         this.tooltips.clear();
+        if (EntryRenderProfiler.isEnabled()) {
+            EntryRenderProfiler.endFrame();
+            EntryRenderProfiler.renderOverlay(matrices, width);
+        }
     }
     
     @Override
@@ -381,6 +520,6 @@ public abstract class AbstractConfigScreen extends Screen implements ConfigScree
         buffer.vertex(matrix, rect.getMaxX(), rect.getMaxY(), 0.0F).texture(rect.getMaxX() / 32.0F, rect.getMaxY() / 32.0F).color(red, green, blue, endAlpha).next();
         buffer.vertex(matrix, rect.getMaxX(), rect.getMinY(), 0.0F).texture(rect.getMaxX() / 32.0F, rect.getMinY() / 32.0F).color(red, green, blue, startAlpha).next();
         buffer.vertex(matrix, rect.getMinX(), rect.getMinY(), 0.0F).texture(rect.getMinX() / 32.0F, rect.getMinY() / 32.0F).color(red, green, blue, startAlpha).next();
-        tessellator.draw();
+        FrameStatistics.draw(tessellator);
     }
 }
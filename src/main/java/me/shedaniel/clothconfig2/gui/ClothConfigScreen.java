@@ -5,7 +5,14 @@ import com.google.common.collect.Maps;
 import com.mojang.blaze3d.systems.RenderSystem;
 import me.shedaniel.clothconfig2.api.*;
 import me.shedaniel.clothconfig2.gui.widget.DynamicElementListWidget;
+import me.shedaniel.clothconfig2.impl.AnimationScheduler;
 import me.shedaniel.clothconfig2.impl.EasingMethod;
+import me.shedaniel.clothconfig2.impl.EntryRenderProfiler;
+import me.shedaniel.clothconfig2.impl.FrameClock;
+import me.shedaniel.clothconfig2.impl.FrameStatistics;
+import me.shedaniel.clothconfig2.impl.QuadBatcher;
+import me.shedaniel.clothconfig2.impl.RetainedRenderCache;
+import me.shedaniel.clothconfig2.impl.metrics.ConfigMetricsImpl;
 import me.shedaniel.math.Point;
 import me.shedaniel.math.Rectangle;
 import net.fabricmc.api.EnvType;
@@ -61,6 +68,7 @@ public class ClothConfigScreen extends AbstractTabbedConfigScreen {
     private double tabsMaximumScrolled = -1d;
     private final List<ClothConfigTabButton> tabButtons = Lists.newArrayList();
     private final Map<Text, ConfigCategory> categoryMap;
+    private final RetainedRenderCache listCache = new RetainedRenderCache();
     
     @ApiStatus.Internal
     public ClothConfigScreen(Screen parent, Text title, Map<Text, List<Object>> entriesMap, Map<Text, ConfigCategory> categoryMap, Identifier backgroundLocation) {
@@ -123,10 +131,13 @@ public class ClothConfigScreen extends AbstractTabbedConfigScreen {
     
     @Override
     protected void init() {
+        ConfigMetrics.Span initSpan = ConfigMetricsImpl.begin(ConfigMetrics.SpanType.INIT, title, getSelectedCategory(), null);
         super.init();
+        this.listCache.invalidate();
         this.tabButtons.clear();
         
         children.add(listWidget = new ListWidget(this, client, width, height, isShowingTabs() ? 70 : 30, height - 32, getBackgroundLocation()));
+        listWidget.setCullingEnabled(isEntryCulling());
         if (categorizedEntries.size() > selectedCategoryIndex) {
             listWidget.children().addAll((List) Lists.newArrayList(categorizedEntries.values()).get(selectedCategoryIndex));
         }
@@ -135,22 +146,14 @@ public class ClothConfigScreen extends AbstractTabbedConfigScreen {
         addButton(saveButton = new ButtonWidget(width / 2 + 3, height - 26, buttonWidths, 20, NarratorManager.EMPTY, button -> saveAll(true)) {
             @Override
             public void render(MatrixStack matrices, int mouseX, int mouseY, float delta) {
-                boolean hasErrors = false;
-                for (List<AbstractConfigEntry<?>> entries : Lists.newArrayList(categorizedEntries.values())) {
-                    for (AbstractConfigEntry<?> entry : entries)
-                        if (entry.getConfigError().isPresent()) {
-                            hasErrors = true;
-                            break;
-                        }
-                    if (hasErrors)
-                        break;
-                }
-                active = isEdited() && !hasErrors;
-                setMessage(hasErrors ? new TranslatableText("text.cloth-config.error_cannot_save") : new TranslatableText("text.cloth-config.save_and_done"));
+                boolean hasErrors = hasErrors();
+                boolean validating = !hasErrors && isValidating();
+                active = isEdited() && !hasErrors && !validating;
+                setMessage(hasErrors ? new TranslatableText("text.cloth-config.error_cannot_save") : validating ? new TranslatableText("text.cloth-config.validating") : new TranslatableText("text.cloth-config.save_and_done"));
                 super.render(matrices, mouseX, mouseY, delta);
             }
         });
-        saveButton.active = isEdited();
+        saveButton.active = isEdited() && !hasErrors() && !isValidating();
         if (isShowingTabs()) {
             tabsBounds = new Rectangle(0, 41, width, 24);
             tabsLeftBounds = new Rectangle(0, 41, 18, 24);
@@ -189,10 +192,80 @@ public class ClothConfigScreen extends AbstractTabbedConfigScreen {
             tabsBounds = tabsLeftBounds = tabsRightBounds = new Rectangle();
         }
         Optional.ofNullable(this.afterInitConsumer).ifPresent(consumer -> consumer.accept(this));
+        initSpan.end(listWidget.children().size());
+    }
+    
+    @Override
+    public void removed() {
+        super.removed();
+        listCache.close();
+    }
+    
+    @Override
+    public void tick() {
+        super.tick();
+        // Focused entries may animate on their own, e.g. blinking text field cursors
+        if (listWidget.getFocused() != null)
+            listCache.invalidate();
+    }
+    
+    @Override
+    public void markEntryStateDirty(AbstractConfigEntry<?> entry) {
+        super.markEntryStateDirty(entry);
+        listCache.invalidate();
+    }
+    
+    @Override
+    public void markEntryStatesDirty() {
+        super.markEntryStatesDirty();
+        listCache.invalidate();
+    }
+    
+    @Override
+    public boolean mouseClicked(double mouseX, double mouseY, int button) {
+        listCache.invalidate();
+        return super.mouseClicked(mouseX, mouseY, button);
+    }
+    
+    @Override
+    public boolean mouseReleased(double mouseX, double mouseY, int button) {
+        listCache.invalidate();
+        return super.mouseReleased(mouseX, mouseY, button);
+    }
+    
+    @Override
+    public boolean mouseDragged(double mouseX, double mouseY, int button, double deltaX, double deltaY) {
+        listCache.invalidate();
+        return super.mouseDragged(mouseX, mouseY, button, deltaX, deltaY);
+    }
+    
+    @Override
+    public boolean keyPressed(int keyCode, int scanCode, int modifiers) {
+        listCache.invalidate();
+        return super.keyPressed(keyCode, scanCode, modifiers);
+    }
+    
+    @Override
+    public boolean keyReleased(int keyCode, int scanCode, int modifiers) {
+        listCache.invalidate();
+        return super.keyReleased(keyCode, scanCode, modifiers);
+    }
+    
+    @Override
+    public boolean charTyped(char chr, int keyCode) {
+        listCache.invalidate();
+        return super.charTyped(chr, keyCode);
+    }
+    
+    @Override
+    public void addTooltip(Tooltip tooltip) {
+        listCache.addTooltip(tooltip);
+        super.addTooltip(tooltip);
     }
     
     @Override
     public boolean mouseScrolled(double mouseX, double mouseY, double amount) {
+        listCache.invalidate();
         if (tabsBounds.contains(mouseX, mouseY) && !tabsLeftBounds.contains(mouseX, mouseY) && !tabsRightBounds.contains(mouseX, mouseY) && amount != 0d) {
             tabsScroller.offset(-amount * 16, true);
             return true;
@@ -215,76 +288,105 @@ public class ClothConfigScreen extends AbstractTabbedConfigScreen {
     
     @Override
     public void render(MatrixStack matrices, int mouseX, int mouseY, float delta) {
-        if (isShowingTabs()) {
-            tabsScroller.updatePosition(delta * 3);
-            int xx = 24 - (int) tabsScroller.scrollAmount;
-            for (ClothConfigTabButton tabButton : tabButtons) {
-                tabButton.x = xx;
-                xx += tabButton.getWidth() + 2;
+        beginFrame();
+        try {
+            if (isShowingTabs()) {
+                tabsScroller.updatePosition(delta * 3);
+                int xx = 24 - (int) tabsScroller.scrollAmount;
+                for (ClothConfigTabButton tabButton : tabButtons) {
+                    tabButton.x = xx;
+                    xx += tabButton.getWidth() + 2;
+                }
+                buttonLeftTab.active = tabsScroller.scrollAmount > 0d;
+                buttonRightTab.active = tabsScroller.scrollAmount < getTabsMaximumScrolled() - width + 40;
             }
-            buttonLeftTab.active = tabsScroller.scrollAmount > 0d;
-            buttonRightTab.active = tabsScroller.scrollAmount < getTabsMaximumScrolled() - width + 40;
-        }
-        if (isTransparentBackground()) {
-            fillGradient(matrices, 0, 0, this.width, this.height, -1072689136, -804253680);
-        } else {
-            renderBackgroundTexture(0);
-        }
-        listWidget.render(matrices, mouseX, mouseY, delta);
-        ScissorsHandler.INSTANCE.scissor(new Rectangle(listWidget.left, listWidget.top, listWidget.width, listWidget.bottom - listWidget.top));
-        for (AbstractConfigEntry child : listWidget.children())
-            child.lateRender(matrices, mouseX, mouseY, delta);
-        ScissorsHandler.INSTANCE.removeLastScissor();
-        if (isShowingTabs()) {
-            drawCenteredText(matrices, client.textRenderer, title, width / 2, 18, -1);
-            Rectangle onlyInnerTabBounds = new Rectangle(tabsBounds.x + 20, tabsBounds.y, tabsBounds.width - 40, tabsBounds.height);
-            ScissorsHandler.INSTANCE.scissor(onlyInnerTabBounds);
-            if (isTransparentBackground())
-                fillGradient(matrices, onlyInnerTabBounds.x, onlyInnerTabBounds.y, onlyInnerTabBounds.getMaxX(), onlyInnerTabBounds.getMaxY(), 0x68000000, 0x68000000);
-            else
-                overlayBackground(matrices, onlyInnerTabBounds, 32, 32, 32, 255, 255);
-            tabButtons.forEach(widget -> widget.render(matrices, mouseX, mouseY, delta));
-            drawTabsShades(matrices, 0, isTransparentBackground() ? 120 : 255);
+            renderList(matrices, mouseX, mouseY, delta);
+            ScissorsHandler.INSTANCE.scissor(listWidget.left, listWidget.top, listWidget.width, listWidget.bottom - listWidget.top);
+            listWidget.lateRenderEntries(matrices, mouseX, mouseY, delta);
             ScissorsHandler.INSTANCE.removeLastScissor();
-            buttonLeftTab.render(matrices, mouseX, mouseY, delta);
-            buttonRightTab.render(matrices, mouseX, mouseY, delta);
-        } else
-            drawCenteredText(matrices, client.textRenderer, title, width / 2, 12, -1);
-        
-        if (isEditable()) {
-            List<Text> errors = Lists.newArrayList();
-            for (List<AbstractConfigEntry<?>> entries : Lists.newArrayList(categorizedEntries.values()))
-                for (AbstractConfigEntry<?> entry : entries)
-                    if (entry.getConfigError().isPresent())
-                        errors.add(entry.getConfigError().get());
-            if (errors.size() > 0) {
+            if (isShowingTabs()) {
+                drawCenteredText(matrices, client.textRenderer, title, width / 2, 18, -1);
+                Rectangle onlyInnerTabBounds = new Rectangle(tabsBounds.x + 20, tabsBounds.y, tabsBounds.width - 40, tabsBounds.height);
+                ScissorsHandler.INSTANCE.scissor(onlyInnerTabBounds);
+                if (isTransparentBackground())
+                    fillGradient(matrices, onlyInnerTabBounds.x, onlyInnerTabBounds.y, onlyInnerTabBounds.getMaxX(), onlyInnerTabBounds.getMaxY(), 0x68000000, 0x68000000);
+                else
+                    overlayBackground(matrices, onlyInnerTabBounds, 32, 32, 32, 255, 255);
+                tabButtons.forEach(widget -> widget.render(matrices, mouseX, mouseY, delta));
+                drawTabsShades(matrices, 0, isTransparentBackground() ? 120 : 255);
+                ScissorsHandler.INSTANCE.removeLastScissor();
+                buttonLeftTab.render(matrices, mouseX, mouseY, delta);
+                buttonRightTab.render(matrices, mouseX, mouseY, delta);
+            } else
+                drawCenteredText(matrices, client.textRenderer, title, width / 2, 12, -1);
+            
+            if (isEditable()) {
+                if (hasErrors()) {
+                    List<Text> errors = getErrors();
+                    client.getTextureManager().bindTexture(CONFIG_TEX);
+                    RenderSystem.color4f(1.0F, 1.0F, 1.0F, 1.0F);
+                    String text = "§c" + (errors.size() == 1 ? errors.get(0).copy().getString() : I18n.translate("text.cloth-config.multi_error"));
+                    if (isTransparentBackground()) {
+                        int stringWidth = client.textRenderer.getStringWidth(text);
+                        fillGradient(matrices, 8, 9, 20 + stringWidth, 14 + client.textRenderer.fontHeight, 0x68000000, 0x68000000);
+                    }
+                    drawTexture(matrices, 10, 10, 0, 54, 3, 11);
+                    drawStringWithShadow(matrices, client.textRenderer, text, 18, 12, -1);
+                    if (errors.size() > 1) {
+                        int stringWidth = client.textRenderer.getStringWidth(text);
+                        if (mouseX >= 10 && mouseY >= 10 && mouseX <= 18 + stringWidth && mouseY <= 14 + client.textRenderer.fontHeight)
+                            addTooltip(Tooltip.of(new Point(mouseX, mouseY), errors.toArray(new Text[0])));
+                    }
+                } else if (isValidating()) {
+                    String text = "§e" + I18n.translate("text.cloth-config.validating");
+                    if (isTransparentBackground()) {
+                        int stringWidth = client.textRenderer.getStringWidth(text);
+                        fillGradient(matrices, 8, 9, 20 + stringWidth, 14 + client.textRenderer.fontHeight, 0x68000000, 0x68000000);
+                    }
+                    drawStringWithShadow(matrices, client.textRenderer, text, 18, 12, -1);
+                }
+            } else if (!isEditable()) {
                 client.getTextureManager().bindTexture(CONFIG_TEX);
                 RenderSystem.color4f(1.0F, 1.0F, 1.0F, 1.0F);
-                String text = "§c" + (errors.size() == 1 ? errors.get(0).copy().getString() : I18n.translate("text.cloth-config.multi_error"));
+                String text = "§c" + I18n.translate("text.cloth-config.not_editable");
                 if (isTransparentBackground()) {
                     int stringWidth = client.textRenderer.getStringWidth(text);
                     fillGradient(matrices, 8, 9, 20 + stringWidth, 14 + client.textRenderer.fontHeight, 0x68000000, 0x68000000);
                 }
                 drawTexture(matrices, 10, 10, 0, 54, 3, 11);
                 drawStringWithShadow(matrices, client.textRenderer, text, 18, 12, -1);
-                if (errors.size() > 1) {
-                    int stringWidth = client.textRenderer.getStringWidth(text);
-                    if (mouseX >= 10 && mouseY >= 10 && mouseX <= 18 + stringWidth && mouseY <= 14 + client.textRenderer.fontHeight)
-                        addTooltip(Tooltip.of(new Point(mouseX, mouseY), errors.toArray(new Text[0])));
-                }
-            }
-        } else if (!isEditable()) {
-            client.getTextureManager().bindTexture(CONFIG_TEX);
-            RenderSystem.color4f(1.0F, 1.0F, 1.0F, 1.0F);
-            String text = "§c" + I18n.translate("text.cloth-config.not_editable");
-            if (isTransparentBackground()) {
-                int stringWidth = client.textRenderer.getStringWidth(text);
-                fillGradient(matrices, 8, 9, 20 + stringWidth, 14 + client.textRenderer.fontHeight, 0x68000000, 0x68000000);
             }
-            drawTexture(matrices, 10, 10, 0, 54, 3, 11);
-            drawStringWithShadow(matrices, client.textRenderer, text, 18, 12, -1);
+            super.render(matrices, mouseX, mouseY, delta);
+        } finally {
+            endFrame();
+        }
+    }
+    
+    private void renderList(MatrixStack matrices, int mouseX, int mouseY, float delta) {
+        if (isTransparentBackground()) {
+            listCache.invalidate();
+            fillGradient(matrices, 0, 0, this.width, this.height, -1072689136, -804253680);
+            listWidget.render(matrices, mouseX, mouseY, delta);
+            return;
+        }
+        // The list covers the whole screen, idle frames draw the retained list instead of rendering every entry again
+        boolean retained = RetainedRenderCache.isEnabled() && !isAnimating() && !EntryRenderProfiler.isEnabled();
+        if (retained && listCache.isValid(mouseX, mouseY, listWidget.getScroll())) {
+            listCache.draw(matrices.peek().getModel());
+            for (Tooltip tooltip : listCache.getTooltips())
+                super.addTooltip(tooltip);
+            return;
+        }
+        if (retained)
+            listCache.beginCapture(mouseX, mouseY, listWidget.getScroll());
+        else
+            listCache.invalidate();
+        renderBackgroundTexture(0);
+        listWidget.render(matrices, mouseX, mouseY, delta);
+        if (retained) {
+            listCache.endCapture();
+            listCache.draw(matrices.peek().getModel());
         }
-        super.render(matrices, mouseX, mouseY, delta);
     }
     
     @ApiStatus.ScheduledForRemoval
@@ -303,20 +405,9 @@ public class ClothConfigScreen extends AbstractTabbedConfigScreen {
         RenderSystem.disableAlphaTest();
         RenderSystem.shadeModel(7425);
         RenderSystem.disableTexture();
-        Tessellator tessellator = Tessellator.getInstance();
-        BufferBuilder buffer = tessellator.getBuffer();
-        buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
-        buffer.vertex(matrix, tabsBounds.getMinX() + 20, tabsBounds.getMinY() + 4, 0.0F).texture(0, 1f).color(0, 0, 0, lightColor).next();
-        buffer.vertex(matrix, tabsBounds.getMaxX() - 20, tabsBounds.getMinY() + 4, 0.0F).texture(1f, 1f).color(0, 0, 0, lightColor).next();
-        buffer.vertex(matrix, tabsBounds.getMaxX() - 20, tabsBounds.getMinY(), 0.0F).texture(1f, 0).color(0, 0, 0, darkColor).next();
-        buffer.vertex(matrix, tabsBounds.getMinX() + 20, tabsBounds.getMinY(), 0.0F).texture(0, 0).color(0, 0, 0, darkColor).next();
-        tessellator.draw();
-        buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
-        buffer.vertex(matrix, tabsBounds.getMinX() + 20, tabsBounds.getMaxY(), 0.0F).texture(0, 1f).color(0, 0, 0, darkColor).next();
-        buffer.vertex(matrix, tabsBounds.getMaxX() - 20, tabsBounds.getMaxY(), 0.0F).texture(1f, 1f).color(0, 0, 0, darkColor).next();
-        buffer.vertex(matrix, tabsBounds.getMaxX() - 20, tabsBounds.getMaxY() - 4, 0.0F).texture(1f, 0).color(0, 0, 0, lightColor).next();
-        buffer.vertex(matrix, tabsBounds.getMinX() + 20, tabsBounds.getMaxY() - 4, 0.0F).texture(0, 0).color(0, 0, 0, lightColor).next();
-        tessellator.draw();
+        QuadBatcher.fillGradient(matrix, tabsBounds.getMinX() + 20, tabsBounds.getMinY(), tabsBounds.getMaxX() - 20, tabsBounds.getMinY() + 4, darkColor << 24, lightColor << 24);
+        QuadBatcher.fillGradient(matrix, tabsBounds.getMinX() + 20, tabsBounds.getMaxY() - 4, tabsBounds.getMaxX() - 20, tabsBounds.getMaxY(), lightColor << 24, darkColor << 24);
+        QuadBatcher.flush();
         RenderSystem.enableTexture();
         RenderSystem.shadeModel(7424);
         RenderSystem.enableAlphaTest();
@@ -344,6 +435,7 @@ public class ClothConfigScreen extends AbstractTabbedConfigScreen {
         public Rectangle thisTimeTarget;
         public long start;
         public long duration;
+        private final Object highlightAnimation = new Object();
         
         public ListWidget(AbstractConfigScreen screen, MinecraftClient client, int width, int height, int top, int bottom, Identifier backgroundLocation) {
             super(client, width, height, top, bottom, backgroundLocation);
@@ -361,6 +453,20 @@ public class ClothConfigScreen extends AbstractTabbedConfigScreen {
             return left + width - 36;
         }
         
+        /**
+         * Renders the overlays of the entries, entries culled in this frame are skipped as their last positions are outdated.
+         */
+        public void lateRenderEntries(MatrixStack matrices, int mouseX, int mouseY, float delta) {
+            for (int i = 0; i < children().size(); i++) {
+                R entry = children().get(i);
+                if (!(entry instanceof AbstractConfigEntry) || (isCullingEnabled() && !isRowVisible(i)))
+                    continue;
+                EntryRenderProfiler.start();
+                ((AbstractConfigEntry<?>) entry).lateRender(matrices, mouseX, mouseY, delta);
+                EntryRenderProfiler.stop(entry.getClass());
+            }
+        }
+        
         @Override
         protected void renderItem(MatrixStack matrices, R item, int index, int y, int x, int entryWidth, int entryHeight, int mouseX, int mouseY, boolean isSelected, float delta) {
             if (item instanceof AbstractConfigEntry)
@@ -375,6 +481,7 @@ public class ClothConfigScreen extends AbstractTabbedConfigScreen {
                 fillGradient(matrices, currentX, currentY, currentX + currentWidth, currentY + currentHeight, 0x24FFFFFF, 0x24FFFFFF);
             }
             super.renderList(matrices, startX, startY, int_3, int_4, delta);
+            AnimationScheduler scheduler = FrameClock.getAnimationScheduler();
             if (thisTimeTarget != null && !thisTimeTarget.equals(target)) {
                 if (!hasCurrent) {
                     currentX = thisTimeTarget.x;
@@ -384,13 +491,20 @@ public class ClothConfigScreen extends AbstractTabbedConfigScreen {
                     hasCurrent = true;
                 }
                 target = thisTimeTarget.clone();
-                start = System.currentTimeMillis();
+                start = FrameClock.currentTimeMillis();
                 this.duration = 40;
-            } else if (hasCurrent && target != null) {
-                currentX = (int) ScrollingContainer.ease(currentX, target.x, Math.min((System.currentTimeMillis() - start) / (double) duration * delta * 3, 1), EasingMethod.EasingMethodImpl.LINEAR);
-                currentY = (int) ScrollingContainer.ease(currentY, target.y, Math.min((System.currentTimeMillis() - start) / (double) duration * delta * 3, 1), EasingMethod.EasingMethodImpl.LINEAR);
-                currentWidth = (int) ScrollingContainer.ease(currentWidth, target.width, Math.min((System.currentTimeMillis() - start) / (double) duration * delta * 3, 1), EasingMethod.EasingMethodImpl.LINEAR);
-                currentHeight = (int) ScrollingContainer.ease(currentHeight, target.height, Math.min((System.currentTimeMillis() - start) / (double) duration * delta * 3, 1), EasingMethod.EasingMethodImpl.LINEAR);
+                scheduler.animate(highlightAnimation);
+            } else if (hasCurrent && target != null && scheduler.isAnimating(highlightAnimation)) {
+                if (currentX == target.x && currentY == target.y && currentWidth == target.width && currentHeight == target.height) {
+                    scheduler.settle(highlightAnimation);
+                    return;
+                }
+                scheduler.animate(highlightAnimation);
+                double progress = FrameClock.progress(start, duration, delta);
+                currentX = (int) ScrollingContainer.ease(currentX, target.x, progress, EasingMethod.EasingMethodImpl.LINEAR);
+                currentY = (int) ScrollingContainer.ease(currentY, target.y, progress, EasingMethod.EasingMethodImpl.LINEAR);
+                currentWidth = (int) ScrollingContainer.ease(currentWidth, target.width, progress, EasingMethod.EasingMethodImpl.LINEAR);
+                currentHeight = (int) ScrollingContainer.ease(currentHeight, target.height, progress, EasingMethod.EasingMethodImpl.LINEAR);
             }
         }
         
@@ -404,7 +518,7 @@ public class ClothConfigScreen extends AbstractTabbedConfigScreen {
             BufferBuilder bufferBuilder = tessellator.getBuffer();
             bufferBuilder.begin(7, VertexFormats.POSITION_COLOR);
             fillGradient(matrices.peek().getModel(), bufferBuilder, xStart, yStart, xEnd, yEnd, this.getZOffset(), colorStart, colorEnd);
-            tessellator.draw();
+            FrameStatistics.draw(tessellator);
             RenderSystem.shadeModel(7424);
             RenderSystem.disableBlend();
             RenderSystem.enableAlphaTest();
@@ -432,7 +546,10 @@ public class ClothConfigScreen extends AbstractTabbedConfigScreen {
             if (!this.isMouseOver(mouseX, mouseY)) {
                 return false;
             } else {
-                for (R entry : children()) {
+                for (int i = 0; i < children().size(); i++) {
+                    R entry = children().get(i);
+                    if (isCullingEnabled() && !isRowVisible(i))
+                        continue;
                     if (entry.mouseClicked(mouseX, mouseY, button)) {
                         this.setFocused(entry);
                         this.setDragging(true);
@@ -2,9 +2,14 @@ package me.shedaniel.clothconfig2.gui;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.mojang.blaze3d.systems.RenderSystem;
 import me.shedaniel.clothconfig2.ClothConfigInitializer;
 import me.shedaniel.clothconfig2.api.*;
+import me.shedaniel.clothconfig2.impl.FrameStatistics;
+import me.shedaniel.clothconfig2.impl.ReferenceTree;
+import me.shedaniel.clothconfig2.impl.WrappedTextCache;
+import me.shedaniel.clothconfig2.impl.metrics.ConfigMetricsImpl;
 import me.shedaniel.math.Rectangle;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.Element;
@@ -27,6 +32,7 @@ import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Matrix4f;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 
@@ -42,12 +48,8 @@ public class GlobalizedClothConfigScreen extends AbstractConfigScreen implements
         
         @Override
         public int getMaxScrollHeight() {
-            int i = 0;
-            for (Reference reference : references) {
-                if (i != 0) i += 3 * reference.getScale();
-                i += textRenderer.fontHeight * reference.getScale();
-            }
-            return i;
+            updateReferenceLayout();
+            return referencesHeight;
         }
     };
     private Reference lastHoveredReference = null;
@@ -64,17 +66,27 @@ public class GlobalizedClothConfigScreen extends AbstractConfigScreen implements
             return 1;
         }
     };
-    private final List<Reference> references = Lists.newArrayList();
-    private final LazyResettable<Integer> sideExpandLimit = new LazyResettable<>(() -> {
-        int max = 0;
-        for (Reference reference : references) {
-            Text referenceText = reference.getText();
-            int width = textRenderer.getWidth(new LiteralText(StringUtils.repeat("  ", reference.getIndent()) + "- ").append(referenceText));
-            if (width > max) max = width;
+    private final ReferenceTree<Reference> referenceTree = new ReferenceTree<>(new ReferenceTree.NodeFactory<Reference>() {
+        @Override
+        public Reference createCategoryNode(Text category) {
+            return new CategoryReference(category);
         }
-        return Math.min(max + 8, width / 4);
-    });
+        
+        @Override
+        public Reference createEntryNode(AbstractConfigEntry<?> entry, int indent) {
+            return new ConfigEntryReference(entry, indent);
+        }
+    }, Reference::getPreparedWidth);
+    private final List<Reference> references = referenceTree.getNodes();
+    /**
+     * The offsets of the references from the top of the side scroller, the last element is the offset after the last reference.
+     */
+    private int[] referenceOffsets = new int[1];
+    private int referencesHeight = 0;
+    private boolean referenceLayoutDirty = true;
+    private final Map<Text, CategoryTextEntry> categoryTextEntries = Maps.newIdentityHashMap();
     private boolean requestingReferenceRebuilding = false;
+    private final Set<AbstractConfigEntry<?>> requestedReferenceRebuilds = Sets.newLinkedHashSet();
     
     @ApiStatus.Internal
     public GlobalizedClothConfigScreen(Screen parent, Text title, Map<Text, List<Object>> entriesMap, Identifier backgroundLocation) {
@@ -101,6 +113,11 @@ public class GlobalizedClothConfigScreen extends AbstractConfigScreen implements
         this.requestingReferenceRebuilding = true;
     }
     
+    @Override
+    public void requestReferenceRebuilding(AbstractConfigEntry<?> entry) {
+        this.requestedReferenceRebuilds.add(entry);
+    }
+    
     @Override
     public Map<Text, List<AbstractConfigEntry<?>>> getCategorizedEntries() {
         return this.categorizedEntries;
@@ -109,17 +126,20 @@ public class GlobalizedClothConfigScreen extends AbstractConfigScreen implements
     @SuppressWarnings("rawtypes")
     @Override
     protected void init() {
+        ConfigMetrics.Span initSpan = ConfigMetricsImpl.begin(ConfigMetrics.SpanType.INIT, title, null, null);
         super.init();
-        this.sideExpandLimit.reset();
-        this.references.clear();
-        buildReferences();
+        rebuildReferences();
         this.children.add(listWidget = new ClothConfigScreen.ListWidget<>(this, client, width - 14, height, 30, height - 32, getBackgroundLocation()));
+        this.listWidget.setCullingEnabled(isEntryCulling());
         this.listWidget.setLeftPos(14);
+        this.categoryTextEntries.clear();
         this.categorizedEntries.forEach((category, entries) -> {
             if (!listWidget.children().isEmpty())
                 this.listWidget.children().add((AbstractConfigEntry) new EmptyEntry(5));
             this.listWidget.children().add((AbstractConfigEntry) new EmptyEntry(4));
-            this.listWidget.children().add((AbstractConfigEntry) new CategoryTextEntry(category, category.shallowCopy().formatted(Formatting.BOLD)));
+            CategoryTextEntry categoryTextEntry = new CategoryTextEntry(category, category.shallowCopy().formatted(Formatting.BOLD));
+            this.categoryTextEntries.put(category, categoryTextEntry);
+            this.listWidget.children().add((AbstractConfigEntry) categoryTextEntry);
             this.listWidget.children().add((AbstractConfigEntry) new EmptyEntry(4));
             this.listWidget.children().addAll((List) entries);
         });
@@ -128,148 +148,192 @@ public class GlobalizedClothConfigScreen extends AbstractConfigScreen implements
         addButton(exitButton = new ButtonWidget(0, height - 26, buttonWidths, 20, NarratorManager.EMPTY, button -> saveAll(true)) {
             @Override
             public void render(MatrixStack matrices, int mouseX, int mouseY, float delta) {
-                boolean hasErrors = false;
-                label:
-                for (List<AbstractConfigEntry<?>> entries : categorizedEntries.values()) {
-                    for (AbstractConfigEntry<?> entry : entries) {
-                        if (entry.getConfigError().isPresent()) {
-                            hasErrors = true;
-                            break label;
-                        }
-                    }
-                }
-                active = isEdited() && !hasErrors;
-                setMessage(hasErrors ? new TranslatableText("text.cloth-config.error_cannot_save") : new TranslatableText("text.cloth-config.save_and_done"));
+                boolean hasErrors = hasErrors();
+                boolean validating = !hasErrors && isValidating();
+                active = isEdited() && !hasErrors && !validating;
+                setMessage(hasErrors ? new TranslatableText("text.cloth-config.error_cannot_save") : validating ? new TranslatableText("text.cloth-config.validating") : new TranslatableText("text.cloth-config.save_and_done"));
                 super.render(matrices, mouseX, mouseY, delta);
             }
         });
         Optional.ofNullable(this.afterInitConsumer).ifPresent(consumer -> consumer.accept(this));
+        initSpan.end(getEntryCount());
     }
     
-    private void buildReferences() {
-        categorizedEntries.forEach((categoryText, entries) -> {
-            this.references.add(new CategoryReference(categoryText));
-            for (AbstractConfigEntry<?> entry : entries) buildReferenceFor(entry, 1);
-        });
+    private void rebuildReferences() {
+        this.requestedReferenceRebuilds.clear();
+        this.referenceTree.rebuild(categorizedEntries);
+        this.referenceLayoutDirty = true;
     }
     
-    private void buildReferenceFor(AbstractConfigEntry<?> entry, int layer) {
-        List<ReferenceProvider<?>> referencableEntries = entry.getReferenceProviderEntries();
-        if (referencableEntries != null) {
-            this.references.add(new ConfigEntryReference(entry, layer));
-            for (ReferenceProvider<?> referencableEntry : referencableEntries) {
-                buildReferenceFor(referencableEntry.provideReferenceEntry(), layer + 1);
-            }
-        }
+    /**
+     * Rebuilds the references of an entry and its children, keeping the references of every other entry.
+     */
+    private void rebuildReferencesOf(AbstractConfigEntry<?> entry) {
+        this.referenceTree.rebuild(entry);
+        this.referenceLayoutDirty = true;
+    }
+    
+    private void updateReferenceLayout() {
+        if (!referenceLayoutDirty)
+            return;
+        referenceLayoutDirty = false;
+        int size = references.size();
+        if (referenceOffsets.length != size + 1)
+            referenceOffsets = new int[size + 1];
+        int offset = 0, height = 0;
+        for (int i = 0; i < size; i++) {
+            Reference reference = references.get(i);
+            referenceOffsets[i] = offset;
+            offset += (textRenderer.fontHeight + 3) * reference.getScale();
+            if (height != 0) height += 3 * reference.getScale();
+            height += textRenderer.fontHeight * reference.getScale();
+        }
+        referenceOffsets[size] = offset;
+        referencesHeight = height;
+    }
+    
+    /**
+     * Gets the first reference ending below the offset, references are laid out top to bottom so this is a binary search.
+     */
+    private int getFirstReferenceBelow(int offset) {
+        int low = 0, high = references.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            Reference reference = references.get(mid);
+            if (referenceOffsets[mid] + (int) (textRenderer.fontHeight * reference.getScale()) <= offset)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
     }
     
     @SuppressWarnings("deprecation")
     @Override
     public void render(MatrixStack matrices, int mouseX, int mouseY, float delta) {
-        this.lastHoveredReference = null;
-        if (requestingReferenceRebuilding) {
-            this.references.clear();
-            buildReferences();
-            requestingReferenceRebuilding = false;
-        }
-        int sliderPosition = getSideSliderPosition();
-        ScissorsHandler.INSTANCE.scissor(new Rectangle(sliderPosition, 0, width - sliderPosition, height));
-        if (isTransparentBackground()) {
-            fillGradient(matrices, 14, 0, width, height, -1072689136, -804253680);
-        } else {
-            renderBackgroundTexture(0);
-            overlayBackground(matrices, new Rectangle(14, 0, width, height), 64, 64, 64, 255, 255);
-        }
-        listWidget.width = width - sliderPosition;
-        listWidget.setLeftPos(sliderPosition);
-        listWidget.render(matrices, mouseX, mouseY, delta);
-        ScissorsHandler.INSTANCE.scissor(new Rectangle(listWidget.left, listWidget.top, listWidget.width, listWidget.bottom - listWidget.top));
-        for (AbstractConfigEntry<?> child : listWidget.children())
-            child.lateRender(matrices, mouseX, mouseY, delta);
-        ScissorsHandler.INSTANCE.removeLastScissor();
-        textRenderer.drawWithShadow(matrices, title, sliderPosition + (width - sliderPosition) / 2f - textRenderer.getWidth(title) / 2f, 12, -1);
-        ScissorsHandler.INSTANCE.removeLastScissor();
-        cancelButton.x = sliderPosition + (width - sliderPosition) / 2 - cancelButton.getWidth() - 3;
-        exitButton.x = sliderPosition + (width - sliderPosition) / 2 + 3;
-        super.render(matrices, mouseX, mouseY, delta);
-        sideSlider.updatePosition(delta);
-        sideScroller.updatePosition(delta);
-        if (isTransparentBackground()) {
-            fillGradient(matrices, 0, 0, sliderPosition, height, -1240461296, -972025840);
-            fillGradient(matrices, 0, 0, sliderPosition - 14, height, 1744830464, 1744830464);
-        } else {
-            Tessellator tessellator = Tessellator.getInstance();
-            BufferBuilder buffer = tessellator.getBuffer();
-            client.getTextureManager().bindTexture(getBackgroundLocation());
-            RenderSystem.color4f(1.0F, 1.0F, 1.0F, 1.0F);
-            float f = 32.0F;
-            buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
-            buffer.vertex(sliderPosition - 14, height, 0.0D).texture(0, height / 32.0F).color(68, 68, 68, 255).next();
-            buffer.vertex(sliderPosition, height, 0.0D).texture(14 / 32.0F, height / 32.0F).color(68, 68, 68, 255).next();
-            buffer.vertex(sliderPosition, 0, 0.0D).texture(14 / 32.0F, 0).color(68, 68, 68, 255).next();
-            buffer.vertex(sliderPosition - 14, 0, 0.0D).texture(0, 0).color(68, 68, 68, 255).next();
-            tessellator.draw();
-            
-            buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
-            buffer.vertex(0, height, 0.0D).texture(0, (height + (int) sideScroller.scrollAmount) / 32.0F).color(32, 32, 32, 255).next();
-            buffer.vertex(sliderPosition - 14, height, 0.0D).texture((sliderPosition - 14) / 32.0F, (height + (int) sideScroller.scrollAmount) / 32.0F).color(32, 32, 32, 255).next();
-            buffer.vertex(sliderPosition - 14, 0, 0.0D).texture((sliderPosition - 14) / 32.0F, ((int) sideScroller.scrollAmount) / 32.0F).color(32, 32, 32, 255).next();
-            buffer.vertex(0, 0, 0.0D).texture(0, ((int) sideScroller.scrollAmount) / 32.0F).color(32, 32, 32, 255).next();
-            tessellator.draw();
-        }
-        {
-            Matrix4f matrix = matrices.peek().getModel();
-            RenderSystem.disableTexture();
-            RenderSystem.enableBlend();
-            RenderSystem.disableAlphaTest();
-            RenderSystem.defaultBlendFunc();
-            RenderSystem.shadeModel(7425);
-            Tessellator tessellator = Tessellator.getInstance();
-            BufferBuilder buffer = tessellator.getBuffer();
-            int shadeColor = isTransparentBackground() ? 120 : 160;
-            buffer.begin(7, VertexFormats.POSITION_COLOR);
-            buffer.vertex(matrix, sliderPosition + 4, 0, 100.0F).color(0, 0, 0, 0).next();
-            buffer.vertex(matrix, sliderPosition, 0, 100.0F).color(0, 0, 0, shadeColor).next();
-            buffer.vertex(matrix, sliderPosition, height, 100.0F).color(0, 0, 0, shadeColor).next();
-            buffer.vertex(matrix, sliderPosition + 4, height, 100.0F).color(0, 0, 0, 0).next();
-            tessellator.draw();
-            shadeColor /= 2;
-            buffer.begin(7, VertexFormats.POSITION_COLOR);
-            buffer.vertex(matrix, sliderPosition - 14, 0, 100.0F).color(0, 0, 0, shadeColor).next();
-            buffer.vertex(matrix, sliderPosition - 14 - 4, 0, 100.0F).color(0, 0, 0, 0).next();
-            buffer.vertex(matrix, sliderPosition - 14 - 4, height, 100.0F).color(0, 0, 0, 0).next();
-            buffer.vertex(matrix, sliderPosition - 14, height, 100.0F).color(0, 0, 0, shadeColor).next();
-            tessellator.draw();
-            RenderSystem.shadeModel(7424);
-            RenderSystem.disableBlend();
-            RenderSystem.enableAlphaTest();
-            RenderSystem.enableTexture();
-        }
-        Rectangle slideArrowBounds = new Rectangle(sliderPosition - 14, 0, 14, height);
-        {
-            RenderSystem.enableAlphaTest();
-            VertexConsumerProvider.Immediate immediate = VertexConsumerProvider.immediate(Tessellator.getInstance().getBuffer());
-            textRenderer.drawLayer(">", sliderPosition - 7 - textRenderer.getStringWidth(">") / 2f, height / 2, (slideArrowBounds.contains(mouseX, mouseY) ? 16777120 : 16777215) | MathHelper.clamp(MathHelper.ceil((1 - sideSlider.scrollAmount) * 255.0F), 0, 255) << 24, false, matrices.peek().getModel(), immediate, false, 0, 15728880);
-            textRenderer.drawLayer("<", sliderPosition - 7 - textRenderer.getStringWidth("<") / 2f, height / 2, (slideArrowBounds.contains(mouseX, mouseY) ? 16777120 : 16777215) | MathHelper.clamp(MathHelper.ceil(sideSlider.scrollAmount * 255.0F), 0, 255) << 24, false, matrices.peek().getModel(), immediate, false, 0, 15728880);
-            immediate.draw();
-            
-            Rectangle scrollerBounds = sideScroller.getBounds();
-            if (!scrollerBounds.isEmpty()) {
-                ScissorsHandler.INSTANCE.scissor(new Rectangle(0, 0, sliderPosition - 14, height));
-                int scrollOffset = (int) (scrollerBounds.y - sideScroller.scrollAmount);
-                for (Reference reference : references) {
-                    matrices.push();
-                    matrices.scale(reference.getScale(), reference.getScale(), reference.getScale());
-                    MutableText text = new LiteralText(StringUtils.repeat("  ", reference.getIndent()) + "- ").append(reference.getText());
-                    if (lastHoveredReference == null && new Rectangle(scrollerBounds.x, (int) (scrollOffset - 4 * reference.getScale()), (int) (textRenderer.getWidth(text) * reference.getScale()), (int) ((textRenderer.fontHeight + 4) * reference.getScale())).contains(mouseX, mouseY))
-                        lastHoveredReference = reference;
-                    textRenderer.draw(matrices, text, scrollerBounds.x, scrollOffset, lastHoveredReference == reference ? 16769544 : 16777215);
-                    matrices.pop();
-                    scrollOffset += (textRenderer.fontHeight + 3) * reference.getScale();
+        beginFrame();
+        try {
+            this.lastHoveredReference = null;
+            if (requestingReferenceRebuilding) {
+                rebuildReferences();
+                requestingReferenceRebuilding = false;
+            } else if (!requestedReferenceRebuilds.isEmpty()) {
+                List<AbstractConfigEntry<?>> entries = Lists.newArrayList(requestedReferenceRebuilds);
+                requestedReferenceRebuilds.clear();
+                for (AbstractConfigEntry<?> entry : entries)
+                    rebuildReferencesOf(entry);
+            }
+            int sliderPosition = getSideSliderPosition();
+            ScissorsHandler.INSTANCE.scissor(sliderPosition, 0, width - sliderPosition, height);
+            if (isTransparentBackground()) {
+                fillGradient(matrices, 14, 0, width, height, -1072689136, -804253680);
+            } else {
+                renderBackgroundTexture(0);
+                overlayBackground(matrices, new Rectangle(14, 0, width, height), 64, 64, 64, 255, 255);
+            }
+            listWidget.width = width - sliderPosition;
+            listWidget.setLeftPos(sliderPosition);
+            listWidget.render(matrices, mouseX, mouseY, delta);
+            ScissorsHandler.INSTANCE.scissor(listWidget.left, listWidget.top, listWidget.width, listWidget.bottom - listWidget.top);
+            listWidget.lateRenderEntries(matrices, mouseX, mouseY, delta);
+            ScissorsHandler.INSTANCE.removeLastScissor();
+            textRenderer.drawWithShadow(matrices, title, sliderPosition + (width - sliderPosition) / 2f - textRenderer.getWidth(title) / 2f, 12, -1);
+            ScissorsHandler.INSTANCE.removeLastScissor();
+            cancelButton.x = sliderPosition + (width - sliderPosition) / 2 - cancelButton.getWidth() - 3;
+            exitButton.x = sliderPosition + (width - sliderPosition) / 2 + 3;
+            super.render(matrices, mouseX, mouseY, delta);
+            sideSlider.updatePosition(delta);
+            sideScroller.updatePosition(delta);
+            if (isTransparentBackground()) {
+                fillGradient(matrices, 0, 0, sliderPosition, height, -1240461296, -972025840);
+                fillGradient(matrices, 0, 0, sliderPosition - 14, height, 1744830464, 1744830464);
+            } else {
+                Tessellator tessellator = Tessellator.getInstance();
+                BufferBuilder buffer = tessellator.getBuffer();
+                client.getTextureManager().bindTexture(getBackgroundLocation());
+                RenderSystem.color4f(1.0F, 1.0F, 1.0F, 1.0F);
+                float f = 32.0F;
+                buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
+                buffer.vertex(sliderPosition - 14, height, 0.0D).texture(0, height / 32.0F).color(68, 68, 68, 255).next();
+                buffer.vertex(sliderPosition, height, 0.0D).texture(14 / 32.0F, height / 32.0F).color(68, 68, 68, 255).next();
+                buffer.vertex(sliderPosition, 0, 0.0D).texture(14 / 32.0F, 0).color(68, 68, 68, 255).next();
+                buffer.vertex(sliderPosition - 14, 0, 0.0D).texture(0, 0).color(68, 68, 68, 255).next();
+                FrameStatistics.draw(tessellator);
+                
+                buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
+                buffer.vertex(0, height, 0.0D).texture(0, (height + (int) sideScroller.scrollAmount) / 32.0F).color(32, 32, 32, 255).next();
+                buffer.vertex(sliderPosition - 14, height, 0.0D).texture((sliderPosition - 14) / 32.0F, (height + (int) sideScroller.scrollAmount) / 32.0F).color(32, 32, 32, 255).next();
+                buffer.vertex(sliderPosition - 14, 0, 0.0D).texture((sliderPosition - 14) / 32.0F, ((int) sideScroller.scrollAmount) / 32.0F).color(32, 32, 32, 255).next();
+                buffer.vertex(0, 0, 0.0D).texture(0, ((int) sideScroller.scrollAmount) / 32.0F).color(32, 32, 32, 255).next();
+                FrameStatistics.draw(tessellator);
+            }
+            {
+                Matrix4f matrix = matrices.peek().getModel();
+                RenderSystem.disableTexture();
+                RenderSystem.enableBlend();
+                RenderSystem.disableAlphaTest();
+                RenderSystem.defaultBlendFunc();
+                RenderSystem.shadeModel(7425);
+                Tessellator tessellator = Tessellator.getInstance();
+                BufferBuilder buffer = tessellator.getBuffer();
+                int shadeColor = isTransparentBackground() ? 120 : 160;
+                buffer.begin(7, VertexFormats.POSITION_COLOR);
+                buffer.vertex(matrix, sliderPosition + 4, 0, 100.0F).color(0, 0, 0, 0).next();
+                buffer.vertex(matrix, sliderPosition, 0, 100.0F).color(0, 0, 0, shadeColor).next();
+                buffer.vertex(matrix, sliderPosition, height, 100.0F).color(0, 0, 0, shadeColor).next();
+                buffer.vertex(matrix, sliderPosition + 4, height, 100.0F).color(0, 0, 0, 0).next();
+                FrameStatistics.draw(tessellator);
+                shadeColor /= 2;
+                buffer.begin(7, VertexFormats.POSITION_COLOR);
+                buffer.vertex(matrix, sliderPosition - 14, 0, 100.0F).color(0, 0, 0, shadeColor).next();
+                buffer.vertex(matrix, sliderPosition - 14 - 4, 0, 100.0F).color(0, 0, 0, 0).next();
+                buffer.vertex(matrix, sliderPosition - 14 - 4, height, 100.0F).color(0, 0, 0, 0).next();
+                buffer.vertex(matrix, sliderPosition - 14, height, 100.0F).color(0, 0, 0, shadeColor).next();
+                FrameStatistics.draw(tessellator);
+                RenderSystem.shadeModel(7424);
+                RenderSystem.disableBlend();
+                RenderSystem.enableAlphaTest();
+                RenderSystem.enableTexture();
+            }
+            Rectangle slideArrowBounds = new Rectangle(sliderPosition - 14, 0, 14, height);
+            {
+                RenderSystem.enableAlphaTest();
+                VertexConsumerProvider.Immediate immediate = VertexConsumerProvider.immediate(Tessellator.getInstance().getBuffer());
+                textRenderer.drawLayer(">", sliderPosition - 7 - textRenderer.getStringWidth(">") / 2f, height / 2, (slideArrowBounds.contains(mouseX, mouseY) ? 16777120 : 16777215) | MathHelper.clamp(MathHelper.ceil((1 - sideSlider.scrollAmount) * 255.0F), 0, 255) << 24, false, matrices.peek().getModel(), immediate, false, 0, 15728880);
+                textRenderer.drawLayer("<", sliderPosition - 7 - textRenderer.getStringWidth("<") / 2f, height / 2, (slideArrowBounds.contains(mouseX, mouseY) ? 16777120 : 16777215) | MathHelper.clamp(MathHelper.ceil(sideSlider.scrollAmount * 255.0F), 0, 255) << 24, false, matrices.peek().getModel(), immediate, false, 0, 15728880);
+                immediate.draw();
+                
+                Rectangle scrollerBounds = sideScroller.getBounds();
+                if (!scrollerBounds.isEmpty()) {
+                    ScissorsHandler.INSTANCE.scissor(0, 0, sliderPosition - 14, height);
+                    updateReferenceLayout();
+                    int scrollTop = (int) (scrollerBounds.y - sideScroller.scrollAmount);
+                    if (mouseX >= scrollerBounds.x && mouseY >= 0 && mouseY < height) {
+                        // Hover boxes start 4 pixels above the text and may overlap the next reference by a pixel
+                        for (int i = getFirstReferenceBelow(mouseY - scrollTop); i < references.size(); i++) {
+                            Reference reference = references.get(i);
+                            int top = (int) (scrollTop + referenceOffsets[i] - 4 * reference.getScale());
+                            if (mouseY < top)
+                                break;
+                            if (mouseY < top + (int) ((textRenderer.fontHeight + 4) * reference.getScale()) && mouseX < scrollerBounds.x + (int) (reference.getPreparedWidth() * reference.getScale())) {
+                                lastHoveredReference = reference;
+                                break;
+                            }
+                        }
+                    }
+                    for (int i = getFirstReferenceBelow(-scrollTop); i < references.size() && scrollTop + referenceOffsets[i] <= height; i++) {
+                        Reference reference = references.get(i);
+                        matrices.push();
+                        matrices.scale(reference.getScale(), reference.getScale(), reference.getScale());
+                        textRenderer.draw(matrices, reference.getPreparedText(), scrollerBounds.x, scrollTop + referenceOffsets[i], lastHoveredReference == reference ? 16769544 : 16777215);
+                        matrices.pop();
+                    }
+                    ScissorsHandler.INSTANCE.removeLastScissor();
+                    sideScroller.renderScrollBar();
                 }
-                ScissorsHandler.INSTANCE.removeLastScissor();
-                sideScroller.renderScrollBar();
             }
+        } finally {
+            endFrame();
         }
     }
     
@@ -310,8 +374,13 @@ public class GlobalizedClothConfigScreen extends AbstractConfigScreen implements
         return super.mouseScrolled(mouseX, mouseY, amount);
     }
     
+    private int getSideExpandLimit() {
+        int max = referenceTree.getMaxWidth();
+        return Math.min(max + 8, width / 4);
+    }
+    
     private int getSideSliderPosition() {
-        return (int) (sideSlider.scrollAmount * sideExpandLimit.get() + 14);
+        return (int) (sideSlider.scrollAmount * getSideExpandLimit() + 14);
     }
     
     private static class EmptyEntry extends AbstractConfigListEntry<Object> {
@@ -357,6 +426,7 @@ public class GlobalizedClothConfigScreen extends AbstractConfigScreen implements
     private static class CategoryTextEntry extends AbstractConfigListEntry<Object> {
         private final Text category;
         private final Text text;
+        private final WrappedTextCache wrappedText = new WrappedTextCache();
         
         public CategoryTextEntry(Text category, Text text) {
             super(new LiteralText(UUID.randomUUID().toString()), false);
@@ -366,7 +436,7 @@ public class GlobalizedClothConfigScreen extends AbstractConfigScreen implements
         
         @Override
         public int getItemHeight() {
-            List<StringRenderable> strings = MinecraftClient.getInstance().textRenderer.wrapStringToWidthAsList(text, getParent().getItemWidth());
+            List<StringRenderable> strings = wrappedText.getLines(text, getParent().getItemWidth());
             if (strings.isEmpty())
                 return 0;
             return 4 + strings.size() * 10;
@@ -394,9 +464,9 @@ public class GlobalizedClothConfigScreen extends AbstractConfigScreen implements
         public void render(MatrixStack matrices, int index, int y, int x, int entryWidth, int entryHeight, int mouseX, int mouseY, boolean isHovered, float delta) {
             super.render(matrices, index, y, x, entryWidth, entryHeight, mouseX, mouseY, isHovered, delta);
             int yy = y + 2;
-            List<StringRenderable> texts = MinecraftClient.getInstance().textRenderer.wrapStringToWidthAsList(this.text, getParent().getItemWidth());
-            for (StringRenderable text : texts) {
-                MinecraftClient.getInstance().textRenderer.drawWithShadow(matrices, text, x - 4 + entryWidth / 2 - MinecraftClient.getInstance().textRenderer.getWidth(text) / 2, yy, -1);
+            List<StringRenderable> texts = wrappedText.getLines(this.text, getParent().getItemWidth());
+            for (int i = 0; i < texts.size(); i++) {
+                MinecraftClient.getInstance().textRenderer.drawWithShadow(matrices, texts.get(i), x - 4 + entryWidth / 2 - wrappedText.getLineWidth(i) / 2, yy, -1);
                 yy += 10;
             }
         }
@@ -407,22 +477,38 @@ public class GlobalizedClothConfigScreen extends AbstractConfigScreen implements
         }
     }
     
-    private interface Reference {
-        default int getIndent() {
-            return 0;
+    private abstract class Reference extends ReferenceTree.Node {
+        private Text preparedText = null;
+        private int preparedWidth = -1;
+        
+        public Reference(@Nullable AbstractConfigEntry<?> entry, int indent) {
+            super(entry, indent);
         }
         
-        Text getText();
+        public abstract Text getText();
         
-        float getScale();
+        public abstract float getScale();
         
-        void go();
+        public abstract void go();
+        
+        public Text getPreparedText() {
+            if (preparedText == null)
+                preparedText = new LiteralText(StringUtils.repeat("  ", getIndent()) + "- ").append(getText());
+            return preparedText;
+        }
+        
+        public int getPreparedWidth() {
+            if (preparedWidth < 0)
+                preparedWidth = textRenderer.getWidth(getPreparedText());
+            return preparedWidth;
+        }
     }
     
-    private class CategoryReference implements Reference {
+    private class CategoryReference extends Reference {
         private Text category;
         
         public CategoryReference(Text category) {
+            super(null, 0);
             this.category = category;
         }
         
@@ -436,31 +522,22 @@ public class GlobalizedClothConfigScreen extends AbstractConfigScreen implements
             return 1.0F;
         }
         
+        @SuppressWarnings({"rawtypes", "unchecked"})
         @Override
         public void go() {
-            int i = 0;
-            for (AbstractConfigEntry<?> child : listWidget.children()) {
-                if (child instanceof CategoryTextEntry && ((CategoryTextEntry) child).category == category) {
-                    listWidget.scrollTo(i, true);
-                    return;
-                }
-                i += child.getItemHeight();
-            }
+            CategoryTextEntry entry = categoryTextEntries.get(category);
+            int offset = entry == null ? -1 : listWidget.getEntryOffset((AbstractConfigEntry) entry);
+            if (offset >= 0)
+                listWidget.scrollTo(offset, true);
         }
     }
     
-    private class ConfigEntryReference implements Reference {
-        private AbstractConfigEntry<?> entry;
-        private int layer;
+    private class ConfigEntryReference extends Reference {
+        private final AbstractConfigEntry<?> entry;
         
         public ConfigEntryReference(AbstractConfigEntry<?> entry, int layer) {
+            super(entry, layer);
             this.entry = entry;
-            this.layer = layer;
-        }
-        
-        @Override
-        public int getIndent() {
-            return layer;
         }
         
         @Override
@@ -473,37 +550,29 @@ public class GlobalizedClothConfigScreen extends AbstractConfigScreen implements
             return 1.0F;
         }
         
+        /**
+         * Resolves the offset of the top level entry from the list's offset index, then descends the reference
+         * tree to this entry with the child offsets of the tree, scrolling to the outermost collapsed parent if there is one.
+         */
+        @SuppressWarnings({"rawtypes", "unchecked"})
         @Override
         public void go() {
-            int[] i = {0};
-            for (AbstractConfigEntry<?> child : listWidget.children()) {
-                int i1 = i[0];
-                if (goChild(i, null, child)) return;
-                i[0] = i1 + child.getItemHeight();
+            List<Reference> path = Lists.newArrayList();
+            for (Reference reference = this; reference != null; reference = reference.getParent() == null ? null : referenceTree.getNode(reference.getParent()))
+                path.add(reference);
+            AbstractConfigEntry<?> root = path.get(path.size() - 1).getEntry();
+            int offset = listWidget.getEntryOffset((AbstractConfigEntry) root);
+            if (offset < 0)
+                return;
+            int layoutEpoch = listWidget.getLayoutEpoch();
+            Integer collapsedParent = null;
+            for (int level = path.size() - 1; level > 0; level--) {
+                AbstractConfigEntry<?> container = path.get(level).getEntry();
+                if (collapsedParent == null && container instanceof Expandable && !((Expandable) container).isExpanded())
+                    collapsedParent = offset;
+                offset += container.getInitialReferenceOffset() + referenceTree.getChildOffset(path.get(level - 1), layoutEpoch);
             }
-        }
-        
-        private boolean goChild(int[] i, Integer expandedParent, AbstractConfigEntry<?> root) {
-            if (root == entry) {
-                listWidget.scrollTo(expandedParent == null ? i[0] : expandedParent, true);
-                return true;
-            }
-            int j = i[0];
-            i[0] += root.getInitialReferenceOffset();
-            boolean expanded = root instanceof Expandable && ((Expandable) root).isExpanded();
-            if (root instanceof Expandable) ((Expandable) root).setExpanded(true);
-            List<? extends Element> children = root.children();
-            if (root instanceof Expandable) ((Expandable) root).setExpanded(expanded);
-            for (Element child : children) {
-                if (child instanceof ReferenceProvider<?>) {
-                    int i1 = i[0];
-                    if (goChild(i, expandedParent != null ? expandedParent : root instanceof Expandable && !expanded ? j : null, ((ReferenceProvider<?>) child).provideReferenceEntry())) {
-                        return true;
-                    }
-                    i[0] = i1 + ((ReferenceProvider<?>) child).provideReferenceEntry().getItemHeight();
-                }
-            }
-            return false;
+            listWidget.scrollTo(collapsedParent == null ? offset : collapsedParent, true);
         }
     }
 }
@@ -111,6 +111,7 @@ public class ColorEntry extends TextFieldListEntry<Integer> {
         if (!alpha) {
             this.alpha = true;
             textFieldWidget.setText(getHexColorString(original));
+            invalidateConfigError();
         }
     }
     
@@ -118,6 +119,7 @@ public class ColorEntry extends TextFieldListEntry<Integer> {
         if (alpha) {
             alpha = false;
             textFieldWidget.setText(getHexColorString(original));
+            invalidateConfigError();
         }
     }
     
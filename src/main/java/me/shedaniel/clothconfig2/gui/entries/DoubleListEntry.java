@@ -84,11 +84,13 @@ public class DoubleListEntry extends TextFieldListEntry<Double> {
     
     public DoubleListEntry setMinimum(double minimum) {
         this.minimum = minimum;
+        invalidateConfigError();
         return this;
     }
     
     public DoubleListEntry setMaximum(double maximum) {
         this.maximum = maximum;
+        invalidateConfigError();
         return this;
     }
     
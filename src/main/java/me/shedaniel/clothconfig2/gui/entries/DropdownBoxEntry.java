@@ -3,9 +3,16 @@ package me.shedaniel.clothconfig2.gui.entries;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.mojang.blaze3d.systems.RenderSystem;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import me.shedaniel.clothconfig2.ClothConfigInitializer;
 import me.shedaniel.clothconfig2.api.ScissorsHandler;
 import me.shedaniel.clothconfig2.api.ScrollingContainer;
+import me.shedaniel.clothconfig2.impl.BackgroundExecutor;
+import me.shedaniel.clothconfig2.impl.DropdownSearchIndex;
+import me.shedaniel.clothconfig2.impl.FrameClock;
+import me.shedaniel.clothconfig2.impl.QuadBatcher;
+import me.shedaniel.clothconfig2.impl.ScrollAnimator;
 import me.shedaniel.math.Rectangle;
 import me.shedaniel.math.impl.PointHelper;
 import net.fabricmc.api.EnvType;
@@ -17,9 +24,6 @@ import net.minecraft.client.gui.Drawable;
 import net.minecraft.client.gui.Element;
 import net.minecraft.client.gui.widget.ButtonWidget;
 import net.minecraft.client.gui.widget.TextFieldWidget;
-import net.minecraft.client.render.BufferBuilder;
-import net.minecraft.client.render.Tessellator;
-import net.minecraft.client.render.VertexFormats;
 import net.minecraft.client.util.NarratorManager;
 import net.minecraft.client.util.Window;
 import net.minecraft.client.util.math.MatrixStack;
@@ -32,11 +36,12 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
-import static me.shedaniel.clothconfig2.api.ScrollingContainer.handleScrollingPosition;
 
 @SuppressWarnings("deprecation")
 @Environment(EnvType.CLIENT)
@@ -47,6 +52,7 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
     @NotNull private Supplier<T> defaultValue;
     @Nullable private Consumer<T> saveConsumer;
     private boolean suggestionMode = true;
+    private boolean asyncSearch = false;
     
     @ApiStatus.Internal
     @Deprecated
@@ -70,7 +76,7 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
         this.selectionElement.bounds.y = y;
         Text displayedFieldName = getDisplayedFieldName();
         if (MinecraftClient.getInstance().textRenderer.isRightToLeft()) {
-            MinecraftClient.getInstance().textRenderer.drawWithShadow(matrices, displayedFieldName, window.getScaledWidth() - x - MinecraftClient.getInstance().textRenderer.getWidth(displayedFieldName), y + 6, getPreferredTextColor());
+            MinecraftClient.getInstance().textRenderer.drawWithShadow(matrices, displayedFieldName, window.getScaledWidth() - x - getDisplayedFieldNameWidth(), y + 6, getPreferredTextColor());
             this.resetButton.x = x;
             this.selectionElement.bounds.x = x + resetButton.getWidth() + 1;
         } else {
@@ -96,6 +102,20 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
         this.suggestionMode = suggestionMode;
     }
     
+    public boolean isAsyncSearch() {
+        return asyncSearch;
+    }
+    
+    /**
+     * Sets whether the suggestions are searched on a background thread, useful for very large selections.
+     * The first matches starting with the search term are shown while the full search is running.
+     *
+     * @param asyncSearch whether to search asynchronously
+     */
+    public void setAsyncSearch(boolean asyncSearch) {
+        this.asyncSearch = asyncSearch;
+    }
+    
     @Override
     public void updateSelected(boolean isSelected) {
         selectionElement.topRenderer.isSelected = isSelected;
@@ -179,6 +199,8 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
             topRenderer.render(matrices, mouseX, mouseY, bounds.x, bounds.y, bounds.width, bounds.height, delta);
             if (menu.isExpanded())
                 menu.render(matrices, mouseX, mouseY, bounds, delta);
+            else
+                FrameClock.getAnimationScheduler().settle(menu);
         }
         
         @Deprecated
@@ -259,29 +281,83 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
             return entry.isSuggestionMode();
         }
         
+        public final boolean isAsyncSearch() {
+            return entry.isAsyncSearch();
+        }
+        
+        @Nullable
+        public R getFirstRecommendation() {
+            for (SelectionCellElement<R> child : children())
+                if (child.getSelection() != null)
+                    return child.getSelection();
+            return null;
+        }
+        
         @Override
         public abstract List<SelectionCellElement<R>> children();
     }
     
     public static class DefaultDropdownMenuElement<R> extends DropdownMenuElement<R> {
+        /**
+         * The number of search results ordered by similarity, the remaining results keep their original order.
+         */
+        protected static final int RANKED_RESULTS = 200;
+        /**
+         * The number of prefix matches shown while an asynchronous search is running.
+         */
+        protected static final int FIRST_PAGE_RESULTS = 20;
+        /**
+         * The number of scrolled out cells kept for reuse.
+         */
+        protected static final int CELL_POOL_SIZE = 16;
         @NotNull protected ImmutableList<R> selections;
-        @NotNull protected List<SelectionCellElement<R>> cells;
+        /**
+         * The indices of the selections matching the search term in display order, {@code null} if every selection matches.
+         */
+        @Nullable protected int[] currentResults;
+        /**
+         * The cells of the visible selections, keyed by selection index.
+         */
+        @NotNull protected Int2ObjectMap<SelectionCellElement<R>> materializedCells = new Int2ObjectOpenHashMap<>();
+        @NotNull private Int2ObjectMap<SelectionCellElement<R>> spareCells = new Int2ObjectOpenHashMap<>();
+        @NotNull protected List<SelectionCellElement<R>> cellPool = Lists.newArrayList();
         @NotNull protected List<SelectionCellElement<R>> currentElements;
+        @Nullable protected volatile DropdownSearchIndex searchIndex;
+        @Nullable protected Future<?> pendingSearch;
+        protected int searchGeneration;
+        protected int appliedSearchGeneration;
         protected Text lastSearchKeyword = NarratorManager.EMPTY;
         protected Rectangle lastRectangle;
         protected boolean scrolling;
         protected double scroll, target;
         protected long start;
         protected long duration;
+        private final ScrollAnimator animator = new ScrollAnimator();
         
         public DefaultDropdownMenuElement(@NotNull ImmutableList<R> selections) {
             this.selections = selections;
-            this.cells = Lists.newArrayList();
             this.currentElements = Lists.newArrayList();
         }
         
         public double getMaxScroll() {
-            return getCellCreator().getCellHeight() * currentElements.size();
+            return getCellCreator().getCellHeight() * getResultCount();
+        }
+        
+        public int getResultCount() {
+            return currentResults == null ? selections.size() : currentResults.length;
+        }
+        
+        /**
+         * Gets the index of the selection shown at a row of the menu.
+         */
+        public int getResult(int row) {
+            return currentResults == null ? row : currentResults[row];
+        }
+        
+        @Nullable
+        @Override
+        public R getFirstRecommendation() {
+            return getResultCount() == 0 ? null : selections.get(getResult(0));
         }
         
         protected double getMaxScrollPosition() {
@@ -296,33 +372,70 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
         
         @Override
         public void initCells() {
-            for (R selection : getSelections()) {
-                cells.add(getCellCreator().create(selection));
-            }
-            for (SelectionCellElement<R> cell : cells) {
-                cell.entry = getEntry();
-            }
+            materializedCells.clear();
+            cellPool.clear();
+            currentElements.clear();
+            searchIndex = null;
             search();
         }
         
-        public void search() {
-            if (isSuggestionMode()) {
-                currentElements.clear();
-                String keyword = this.lastSearchKeyword.getString().toLowerCase();
-                for (SelectionCellElement<R> cell : cells) {
-                    Text key = cell.getSearchKey();
-                    if (key == null || key.getString().toLowerCase().contains(keyword))
-                        currentElements.add(cell);
+        /**
+         * Gets the search index of the selections, building it if necessary. Asynchronous searches build it on the
+         * background thread, so this may be called from both threads.
+         */
+        @NotNull
+        protected synchronized DropdownSearchIndex getSearchIndex() {
+            if (searchIndex == null) {
+                List<String> keys = Lists.newArrayListWithCapacity(selections.size());
+                for (R selection : selections) {
+                    Text key = getCellCreator().getSearchKey(selection);
+                    keys.add(key == null ? null : key.getString());
                 }
-                if (!keyword.isEmpty()) {
-                    Comparator<SelectionCellElement<?>> c = Comparator.comparingDouble(i -> i.getSearchKey() == null ? Double.MAX_VALUE : similarity(i.getSearchKey().getString(), keyword));
-                    currentElements.sort(c.reversed());
+                searchIndex = new DropdownSearchIndex(keys);
+            }
+            return searchIndex;
+        }
+        
+        public void search() {
+            if (pendingSearch != null) {
+                pendingSearch.cancel(true);
+                pendingSearch = null;
+            }
+            int generation = ++searchGeneration;
+            String keyword = this.lastSearchKeyword.getString();
+            if (isSuggestionMode() && !keyword.isEmpty()) {
+                if (isAsyncSearch()) {
+                    pendingSearch = BackgroundExecutor.INSTANCE.submit(() -> {
+                        try {
+                            DropdownSearchIndex index = getSearchIndex();
+                            int[] firstPage = index.searchPrefix(keyword, FIRST_PAGE_RESULTS);
+                            // An empty first page would blank the menu until the ranked results arrive
+                            if (firstPage.length > 0)
+                                MinecraftClient.getInstance().execute(() -> applySearchResults(generation, firstPage, false));
+                            int[] results = index.search(keyword, RANKED_RESULTS, this::similarity);
+                            MinecraftClient.getInstance().execute(() -> applySearchResults(generation, results, true));
+                        } catch (CancellationException ignored) {
+                        }
+                    });
+                } else {
+                    applySearchResults(generation, getSearchIndex().search(keyword, RANKED_RESULTS, this::similarity), true);
                 }
-                scrollTo(0, false);
             } else {
-                currentElements.clear();
-                currentElements.addAll(cells);
+                applySearchResults(generation, null, true);
+            }
+        }
+        
+        protected void applySearchResults(int generation, @Nullable int[] results, boolean complete) {
+            if (generation != searchGeneration || (!complete && appliedSearchGeneration == generation))
+                return;
+            currentResults = results;
+            if (appliedSearchGeneration != generation) {
+                appliedSearchGeneration = generation;
+                if (isSuggestionMode())
+                    scrollTo(0, false);
             }
+            if (complete)
+                pendingSearch = null;
         }
         
         protected int editDistance(String s1, String s2) {
@@ -376,9 +489,9 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
         }
         
         private void updatePosition(float delta) {
-            double[] target = {this.target};
-            scroll = handleScrollingPosition(target, scroll, getMaxScrollPosition(), delta, start, duration);
-            this.target = target[0];
+            animator.set(scroll, target).update(this, getMaxScrollPosition(), delta, start, duration);
+            scroll = animator.getPosition();
+            target = animator.getTarget();
         }
         
         @Override
@@ -390,8 +503,12 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
             RenderSystem.pushMatrix();
             RenderSystem.translatef(0, 0, 300f);
             
-            ScissorsHandler.INSTANCE.scissor(new Rectangle(lastRectangle.x, lastRectangle.y + lastRectangle.height + 1, cWidth - 6, last10Height - 1));
-            double yy = lastRectangle.y + lastRectangle.height - scroll;
+            ScissorsHandler.INSTANCE.scissor(lastRectangle.x, lastRectangle.y + lastRectangle.height + 1, cWidth - 6, last10Height - 1);
+            int cellHeight = getCellCreator().getCellHeight();
+            int firstRow = MathHelper.clamp(MathHelper.floor(scroll / cellHeight) - 1, 0, getResultCount());
+            int lastRow = MathHelper.clamp(MathHelper.ceil((scroll + last10Height + 1) / cellHeight) + 1, firstRow, getResultCount());
+            updateVisibleCells(matrices, delta, firstRow, lastRow);
+            double yy = lastRectangle.y + lastRectangle.height - scroll + firstRow * cellHeight;
             for (SelectionCellElement<R> cell : currentElements) {
                 if (yy + getCellCreator().getCellHeight() >= lastRectangle.y + lastRectangle.height && yy <= lastRectangle.y + lastRectangle.height + last10Height + 1)
                     cell.render(matrices, mouseX, mouseY, lastRectangle.x, (int) yy, getMaxScrollPosition() > 6 ? getCellCreator().getCellWidth() - 6 : getCellCreator().getCellWidth(), getCellCreator().getCellHeight(), delta);
@@ -401,7 +518,7 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
             }
             ScissorsHandler.INSTANCE.removeLastScissor();
             
-            if (currentElements.isEmpty()) {
+            if (getResultCount() == 0) {
                 TextRenderer textRenderer = MinecraftClient.getInstance().textRenderer;
                 Text text = new TranslatableText("text.cloth-config.dropdown.value.unknown");
                 textRenderer.drawWithShadow(matrices, text, lastRectangle.x + getCellCreator().getCellWidth() / 2f - textRenderer.getWidth(text) / 2f, lastRectangle.y + lastRectangle.height + 3, -1);
@@ -417,33 +534,63 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
                 height = Math.max(10, height);
                 int minY = (int) Math.min(Math.max((int) scroll * (last10Height - height) / getMaxScrollPosition() + (lastRectangle.y + lastRectangle.height + 1), (lastRectangle.y + lastRectangle.height + 1)), (lastRectangle.y + lastRectangle.height + 1 + last10Height) - height);
                 
-                int bottomc = new Rectangle(scrollbarPositionMinX, minY, scrollbarPositionMaxX - scrollbarPositionMinX, height).contains(PointHelper.ofMouse()) ? 168 : 128;
-                int topc = new Rectangle(scrollbarPositionMinX, minY, scrollbarPositionMaxX - scrollbarPositionMinX, height).contains(PointHelper.ofMouse()) ? 222 : 172;
-                
-                Tessellator tessellator = Tessellator.getInstance();
-                BufferBuilder buffer = tessellator.getBuffer();
+                boolean hovered = new Rectangle(scrollbarPositionMinX, minY, scrollbarPositionMaxX - scrollbarPositionMinX, height).contains(PointHelper.ofMouse());
+                int bottomc = hovered ? 0xFFA8A8A8 : 0xFF808080;
+                int topc = hovered ? 0xFFDEDEDE : 0xFFACACAC;
                 
                 // Bottom
-                buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
-                buffer.vertex(scrollbarPositionMinX, minY + height, 0.0D).texture(0, 1).color(bottomc, bottomc, bottomc, 255).next();
-                buffer.vertex(scrollbarPositionMaxX, minY + height, 0.0D).texture(1, 1).color(bottomc, bottomc, bottomc, 255).next();
-                buffer.vertex(scrollbarPositionMaxX, minY, 0.0D).texture(1, 0).color(bottomc, bottomc, bottomc, 255).next();
-                buffer.vertex(scrollbarPositionMinX, minY, 0.0D).texture(0, 0).color(bottomc, bottomc, bottomc, 255).next();
-                tessellator.draw();
-                
+                QuadBatcher.fill(null, scrollbarPositionMinX, minY, scrollbarPositionMaxX, minY + height, bottomc);
                 // Top
-                buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
-                buffer.vertex(scrollbarPositionMinX, (minY + height - 1), 0.0D).texture(0, 1).color(topc, topc, topc, 255).next();
-                buffer.vertex((scrollbarPositionMaxX - 1), (minY + height - 1), 0.0D).texture(1, 1).color(topc, topc, topc, 255).next();
-                buffer.vertex((scrollbarPositionMaxX - 1), minY, 0.0D).texture(1, 0).color(topc, topc, topc, 255).next();
-                buffer.vertex(scrollbarPositionMinX, minY, 0.0D).texture(0, 0).color(topc, topc, topc, 255).next();
-                tessellator.draw();
+                QuadBatcher.fill(null, scrollbarPositionMinX, minY, scrollbarPositionMaxX - 1, minY + height - 1, topc);
+                QuadBatcher.flush();
                 RenderSystem.enableTexture();
             }
             RenderSystem.translatef(0, 0, -300f);
             RenderSystem.popMatrix();
         }
         
+        /**
+         * Materializes the cells of the rows between {@code firstRow} and {@code lastRow} into {@link #currentElements},
+         * cells of rows scrolled out of the menu are returned to the pool.
+         */
+        protected void updateVisibleCells(MatrixStack matrices, float delta, int firstRow, int lastRow) {
+            Int2ObjectMap<SelectionCellElement<R>> visible = spareCells;
+            for (int row = firstRow; row < lastRow; row++) {
+                int index = getResult(row);
+                SelectionCellElement<R> cell = materializedCells.remove(index);
+                if (cell != null)
+                    visible.put(index, cell);
+            }
+            boolean pooling = getCellCreator().canRecycle();
+            for (SelectionCellElement<R> cell : materializedCells.values()) {
+                cell.dontRender(matrices, delta);
+                if (pooling && cellPool.size() < CELL_POOL_SIZE)
+                    cellPool.add(cell);
+            }
+            materializedCells.clear();
+            spareCells = materializedCells;
+            materializedCells = visible;
+            currentElements.clear();
+            for (int row = firstRow; row < lastRow; row++) {
+                int index = getResult(row);
+                SelectionCellElement<R> cell = visible.get(index);
+                if (cell == null)
+                    visible.put(index, cell = obtainCell(selections.get(index)));
+                currentElements.add(cell);
+            }
+        }
+        
+        protected SelectionCellElement<R> obtainCell(R selection) {
+            if (!cellPool.isEmpty()) {
+                SelectionCellElement<R> cell = cellPool.remove(cellPool.size() - 1);
+                if (getCellCreator().recycle(cell, selection))
+                    return cell;
+            }
+            SelectionCellElement<R> cell = getCellCreator().create(selection);
+            cell.entry = getEntry();
+            return cell;
+        }
+        
         @Override
         public int getHeight() {
             return Math.max(Math.min(getCellCreator().getDropBoxMaxHeight(), (int) getMaxScroll()), 14);
@@ -509,7 +656,7 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
             target = ScrollingContainer.clampExtension(value, getMaxScrollPosition());
             
             if (animated) {
-                start = System.currentTimeMillis();
+                start = FrameClock.currentTimeMillis();
                 this.duration = duration;
             } else
                 scroll = target;
@@ -522,8 +669,44 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
     }
     
     public static abstract class SelectionCellCreator<R> {
+        @Nullable private SelectionCellElement<R> searchKeyCell;
+        
         public abstract SelectionCellElement<R> create(R selection);
         
+        /**
+         * Gets the search key of a selection without keeping its cell around. A single cell is created and rebound
+         * to every further selection if this creator can recycle cells, otherwise a cell is created per selection.
+         *
+         * @param selection the selection
+         * @return the search key, see {@link SelectionCellElement#getSearchKey()}
+         */
+        @Nullable
+        public synchronized Text getSearchKey(R selection) {
+            SelectionCellElement<R> cell = searchKeyCell;
+            if (cell == null || !canRecycle() || !recycle(cell, selection))
+                searchKeyCell = cell = create(selection);
+            return cell.getSearchKey();
+        }
+        
+        /**
+         * Gets whether this creator can rebind its cells with {@link #recycle(SelectionCellElement, Object)},
+         * scrolled out cells are only kept for reuse if it can. Creators overriding {@code recycle} should return {@code true}.
+         */
+        public boolean canRecycle() {
+            return false;
+        }
+        
+        /**
+         * Binds a cell created by this creator to another selection, so scrolled out cells can be reused.
+         *
+         * @param cell      the cell to rebind
+         * @param selection the new selection of the cell
+         * @return whether the cell was rebound, cells which were not are discarded
+         */
+        public boolean recycle(SelectionCellElement<R> cell, R selection) {
+            return false;
+        }
+        
         public abstract int getCellHeight();
         
         public abstract int getDropBoxMaxHeight();
@@ -535,6 +718,7 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
     
     public static class DefaultSelectionCellCreator<R> extends SelectionCellCreator<R> {
         protected Function<R, Text> toTextFunction;
+        @Nullable private Boolean createOverridden;
         
         public DefaultSelectionCellCreator(Function<R, Text> toTextFunction) {
             this.toTextFunction = toTextFunction;
@@ -549,6 +733,50 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
             return new DefaultSelectionCellElement<>(selection, toTextFunction);
         }
         
+        /**
+         * Gets the search key of a selection from the text function, unless {@link #create(Object)} is overridden
+         * to create cells which may have different search keys.
+         */
+        @Nullable
+        @Override
+        public Text getSearchKey(R selection) {
+            if (isCreateOverridden())
+                return super.getSearchKey(selection);
+            return toTextFunction.apply(selection);
+        }
+        
+        private boolean isCreateOverridden() {
+            if (createOverridden == null) {
+                try {
+                    createOverridden = getClass().getMethod("create", Object.class).getDeclaringClass() != getCellFactoryClass();
+                } catch (NoSuchMethodException e) {
+                    createOverridden = true;
+                }
+            }
+            return createOverridden;
+        }
+        
+        /**
+         * Gets the class whose {@link #create(Object)} creates cells searched by the text function,
+         * subclasses overriding it with cells that are searched the same way should return themselves.
+         */
+        protected Class<?> getCellFactoryClass() {
+            return DefaultSelectionCellCreator.class;
+        }
+        
+        @Override
+        public boolean canRecycle() {
+            return !isCreateOverridden();
+        }
+        
+        @Override
+        public boolean recycle(SelectionCellElement<R> cell, R selection) {
+            if (cell.getClass() != DefaultSelectionCellElement.class)
+                return false;
+            ((DefaultSelectionCellElement<R>) cell).rebind(selection);
+            return true;
+        }
+        
         @Override
         public int getCellHeight() {
             return 14;
@@ -606,6 +834,14 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
             MinecraftClient.getInstance().textRenderer.drawWithShadow(matrices, toTextFunction.apply(r), x + 6, y + 3, b ? 16777215 : 8947848);
         }
         
+        /**
+         * Binds this cell to another selection, see {@link SelectionCellCreator#recycle(SelectionCellElement, Object)}.
+         */
+        protected void rebind(R selection) {
+            this.r = selection;
+            this.rendering = false;
+        }
+        
         @Override
         public void dontRender(MatrixStack matrices, float delta) {
             rendering = false;
@@ -682,13 +918,10 @@ public class DropdownBoxEntry<T> extends TooltipListEntry<T> {
         }
         
         public void selectFirstRecommendation() {
-            List<SelectionCellElement<R>> children = getParent().selectionElement.menu.children();
-            for (SelectionCellElement<R> child : children) {
-                if (child.getSelection() != null) {
-                    setValue(child.getSelection());
-                    getParent().selectionElement.setFocused(null);
-                    break;
-                }
+            R recommendation = getParent().selectionElement.menu.getFirstRecommendation();
+            if (recommendation != null) {
+                setValue(recommendation);
+                getParent().selectionElement.setFocused(null);
             }
         }
         
@@ -78,11 +78,13 @@ public class FloatListEntry extends TextFieldListEntry<Float> {
     
     public FloatListEntry setMinimum(float minimum) {
         this.minimum = minimum;
+        invalidateConfigError();
         return this;
     }
     
     public FloatListEntry setMaximum(float maximum) {
         this.maximum = maximum;
+        invalidateConfigError();
         return this;
     }
     
@@ -86,6 +86,11 @@ public class IntegerSliderEntry extends TooltipListEntry<Integer> {
         return value.get();
     }
     
+    @Override
+    protected Object getValidationKey() {
+        return getValue();
+    }
+    
     @Deprecated
     public void setValue(int value) {
         sliderWidget.setValue((MathHelper.clamp(value, minimum, maximum) - minimum) / (double) Math.abs(maximum - minimum));
@@ -128,7 +133,7 @@ public class IntegerSliderEntry extends TooltipListEntry<Integer> {
         this.sliderWidget.y = y;
         Text displayedFieldName = getDisplayedFieldName();
         if (MinecraftClient.getInstance().textRenderer.isRightToLeft()) {
-            MinecraftClient.getInstance().textRenderer.drawWithShadow(matrices, displayedFieldName, window.getScaledWidth() - x - MinecraftClient.getInstance().textRenderer.getWidth(displayedFieldName), y + 6, getPreferredTextColor());
+            MinecraftClient.getInstance().textRenderer.drawWithShadow(matrices, displayedFieldName, window.getScaledWidth() - x - getDisplayedFieldNameWidth(), y + 6, getPreferredTextColor());
             this.resetButton.x = x;
             this.sliderWidget.x = x + resetButton.getWidth() + 1;
         } else {
@@ -93,6 +93,11 @@ public class SelectionListEntry<T> extends TooltipListEntry<T> {
         return this.values.get(this.index.get());
     }
     
+    @Override
+    protected Object getValidationKey() {
+        return getValue();
+    }
+    
     @Override
     public Optional<T> getDefaultValue() {
         return defaultValue == null ? Optional.empty() : Optional.ofNullable(defaultValue.get());
@@ -109,7 +114,7 @@ public class SelectionListEntry<T> extends TooltipListEntry<T> {
         this.buttonWidget.setMessage(nameProvider.apply(getValue()));
         Text displayedFieldName = getDisplayedFieldName();
         if (MinecraftClient.getInstance().textRenderer.isRightToLeft()) {
-            MinecraftClient.getInstance().textRenderer.drawWithShadow(matrices, displayedFieldName, window.getScaledWidth() - x - MinecraftClient.getInstance().textRenderer.getWidth(displayedFieldName), y + 6, getPreferredTextColor());
+            MinecraftClient.getInstance().textRenderer.drawWithShadow(matrices, displayedFieldName, window.getScaledWidth() - x - getDisplayedFieldNameWidth(), y + 6, getPreferredTextColor());
             this.resetButton.x = x;
             this.buttonWidget.x = x + resetButton.getWidth() + 2;
         } else {
@@ -18,7 +18,6 @@ import net.minecraft.text.Text;
 import net.minecraft.text.TranslatableText;
 import net.minecraft.util.Identifier;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -51,6 +50,7 @@ public class SubCategoryListEntry extends TooltipListEntry<List<AbstractConfigLi
     @Override
     public void setExpanded(boolean expanded) {
         this.expanded = expanded;
+        invalidateLayout();
     }
     
     @Override
@@ -118,6 +118,15 @@ public class SubCategoryListEntry extends TooltipListEntry<List<AbstractConfigLi
         return false;
     }
     
+    @Override
+    public void dontRender(MatrixStack matrices, float delta) {
+        if (expanded) {
+            for (AbstractConfigListEntry<?> entry : entries) {
+                entry.dontRender(matrices, delta);
+            }
+        }
+    }
+    
     @Override
     public void lateRender(MatrixStack matrices, int mouseX, int mouseY, float delta) {
         if (expanded) {
@@ -131,16 +140,17 @@ public class SubCategoryListEntry extends TooltipListEntry<List<AbstractConfigLi
     @Override
     public int getMorePossibleHeight() {
         if (!expanded) return -1;
-        List<Integer> list = new ArrayList<>();
         int i = 24;
+        int max = 0;
         for (AbstractConfigListEntry<?> entry : entries) {
             i += entry.getItemHeight();
-            if (entry.getMorePossibleHeight() >= 0) {
-                list.add(i + entry.getMorePossibleHeight());
+            int morePossibleHeight = entry.getMorePossibleHeight();
+            if (morePossibleHeight >= 0 && i + morePossibleHeight > max) {
+                max = i + morePossibleHeight;
             }
         }
-        list.add(i);
-        return list.stream().max(Integer::compare).orElse(0) - getItemHeight();
+        // i is the expanded item height at this point
+        return Math.max(max, i) - i;
     }
     
     @Override
@@ -199,6 +209,7 @@ public class SubCategoryListEntry extends TooltipListEntry<List<AbstractConfigLi
         public boolean mouseClicked(double double_1, double double_2, int int_1) {
             if (rectangle.contains(double_1, double_2)) {
                 expanded = !expanded;
+                invalidateLayout();
                 MinecraftClient.getInstance().getSoundManager().play(PositionedSoundInstance.master(SoundEvents.UI_BUTTON_CLICK, 1.0F));
                 return true;
             }
@@ -71,6 +71,11 @@ public abstract class TextFieldListEntry<T> extends TooltipListEntry<T> {
         return isChanged(original, textFieldWidget.getText());
     }
     
+    @Override
+    protected Object getValidationKey() {
+        return textFieldWidget.getText();
+    }
+    
     protected boolean isChanged(T original, String s) {
         return !String.valueOf(original).equals(s);
     }
@@ -107,7 +112,7 @@ public abstract class TextFieldListEntry<T> extends TooltipListEntry<T> {
         this.textFieldWidget.y = y + 1;
         Text displayedFieldName = getDisplayedFieldName();
         if (MinecraftClient.getInstance().textRenderer.isRightToLeft()) {
-            MinecraftClient.getInstance().textRenderer.drawWithShadow(matrices, displayedFieldName, window.getScaledWidth() - x - MinecraftClient.getInstance().textRenderer.getWidth(displayedFieldName), y + 6, getPreferredTextColor());
+            MinecraftClient.getInstance().textRenderer.drawWithShadow(matrices, displayedFieldName, window.getScaledWidth() - x - getDisplayedFieldNameWidth(), y + 6, getPreferredTextColor());
             this.resetButton.x = x;
             this.textFieldWidget.x = x + resetButton.getWidth();
         } else {
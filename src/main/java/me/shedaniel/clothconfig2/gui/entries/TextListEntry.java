@@ -1,5 +1,6 @@
 package me.shedaniel.clothconfig2.gui.entries;
 
+import me.shedaniel.clothconfig2.impl.WrappedTextCache;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.client.MinecraftClient;
@@ -17,6 +18,7 @@ import java.util.function.Supplier;
 @Environment(EnvType.CLIENT)
 public class TextListEntry extends TooltipListEntry<Object> {
     
+    private final WrappedTextCache wrappedText = new WrappedTextCache();
     private int savedWidth = -1;
     private int color;
     private Text text;
@@ -44,9 +46,12 @@ public class TextListEntry extends TooltipListEntry<Object> {
     @Override
     public void render(MatrixStack matrices, int index, int y, int x, int entryWidth, int entryHeight, int mouseX, int mouseY, boolean isHovered, float delta) {
         super.render(matrices, index, y, x, entryWidth, entryHeight, mouseX, mouseY, isHovered, delta);
-        this.savedWidth = entryWidth;
+        if (this.savedWidth != entryWidth) {
+            this.savedWidth = entryWidth;
+            invalidateLayout();
+        }
         int yy = y + 4;
-        List<StringRenderable> strings = MinecraftClient.getInstance().textRenderer.wrapStringToWidthAsList(text, savedWidth);
+        List<StringRenderable> strings = wrappedText.getLines(text, savedWidth);
         for (StringRenderable string : strings) {
             MinecraftClient.getInstance().textRenderer.drawWithShadow(matrices, string, x, yy, color);
             yy += MinecraftClient.getInstance().textRenderer.fontHeight + 3;
@@ -57,7 +62,7 @@ public class TextListEntry extends TooltipListEntry<Object> {
     public int getItemHeight() {
         if (savedWidth == -1)
             return 12;
-        List<StringRenderable> strings = MinecraftClient.getInstance().textRenderer.wrapStringToWidthAsList(text, savedWidth);
+        List<StringRenderable> strings = wrappedText.getLines(text, savedWidth);
         if (strings.isEmpty())
             return 0;
         return 15 + strings.size() * 12;
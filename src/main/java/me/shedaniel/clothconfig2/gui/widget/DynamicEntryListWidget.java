@@ -2,8 +2,11 @@ package me.shedaniel.clothconfig2.gui.widget;
 
 import com.google.common.collect.Lists;
 import com.mojang.blaze3d.systems.RenderSystem;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import me.shedaniel.clothconfig2.api.ScissorsHandler;
-import me.shedaniel.math.Rectangle;
+import me.shedaniel.clothconfig2.impl.EntryRenderProfiler;
+import me.shedaniel.clothconfig2.impl.FrameStatistics;
+import me.shedaniel.clothconfig2.impl.QuadBatcher;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.client.MinecraftClient;
@@ -46,6 +49,15 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
     protected boolean scrolling;
     protected E selectedItem;
     protected Identifier backgroundLocation;
+    private int[] rowOffsets = new int[1];
+    private int[] rowExtraHeights = new int[0];
+    private int maxRowExtent;
+    private boolean layoutDirty = true;
+    private int layoutEpoch;
+    private final Reference2IntOpenHashMap<E> entryIndices = new Reference2IntOpenHashMap<>();
+    private boolean entryIndicesDirty = true;
+    private boolean cullingEnabled = false;
+    private int cullingOverscan = 0;
     
     public DynamicEntryListWidget(MinecraftClient client, int width, int height, int top, int bottom, Identifier backgroundLocation) {
         this.client = client;
@@ -56,6 +68,7 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
         this.left = 0;
         this.right = width;
         this.backgroundLocation = backgroundLocation;
+        this.entryIndices.defaultReturnValue(-1);
     }
     
     public void setRenderSelection(boolean boolean_1) {
@@ -73,6 +86,33 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
         return 220;
     }
     
+    public boolean isCullingEnabled() {
+        return cullingEnabled;
+    }
+    
+    /**
+     * Sets whether entries outside of the viewport should be skipped when rendering.
+     * Culled entries receive {@link Entry#dontRender(MatrixStack, float)} instead of being rendered.
+     *
+     * @param cullingEnabled whether culling is enabled
+     */
+    public void setCullingEnabled(boolean cullingEnabled) {
+        this.cullingEnabled = cullingEnabled;
+    }
+    
+    public int getCullingOverscan() {
+        return cullingOverscan;
+    }
+    
+    /**
+     * Sets the margin in pixels above and below the viewport in which entries are still rendered when culling.
+     *
+     * @param cullingOverscan the margin in pixels
+     */
+    public void setCullingOverscan(int cullingOverscan) {
+        this.cullingOverscan = Math.max(0, cullingOverscan);
+    }
+    
     public E getSelectedItem() {
         return this.selectedItem;
     }
@@ -115,16 +155,7 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
         int minX = listMiddleX - this.getItemWidth() / 2;
         int maxX = listMiddleX + this.getItemWidth() / 2;
         int currentY = MathHelper.floor(mouseY - (double) this.top) - this.headerHeight + (int) this.getScroll() - 4;
-        int itemY = 0;
-        int itemIndex = -1;
-        for (int i = 0; i < entries.size(); i++) {
-            E item = getItem(i);
-            itemY += item.getItemHeight();
-            if (itemY > currentY) {
-                itemIndex = i;
-                break;
-            }
-        }
+        int itemIndex = getRowIndexAt(currentY);
         return mouseX < (double) this.getScrollbarPosition() && mouseX >= minX && mouseX <= maxX && itemIndex >= 0 && currentY >= 0 && itemIndex < this.getItemCount() ? this.children().get(itemIndex) : null;
     }
     
@@ -135,6 +166,7 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
         this.bottom = bottom;
         this.left = 0;
         this.right = width;
+        this.invalidateLayout();
     }
     
     public void setLeftPos(int left) {
@@ -143,16 +175,8 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
     }
     
     protected int getMaxScrollPosition() {
-        List<Integer> list = new ArrayList<>();
-        int i = headerHeight;
-        for (E entry : entries) {
-            i += entry.getItemHeight();
-            if (entry.getMorePossibleHeight() >= 0) {
-                list.add(i + entry.getMorePossibleHeight());
-            }
-        }
-        list.add(i);
-        return list.stream().max(Integer::compare).orElse(0);
+        updateLayout();
+        return headerHeight + maxRowExtent;
     }
     
     protected void clickedHeader(int int_1, int int_2) {
@@ -178,7 +202,109 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
         buffer.vertex(matrix, this.right, this.bottom, 0.0F).texture(this.right / 32.0F, ((this.bottom + (int) this.getScroll()) / 32.0F)).color(32, 32, 32, 255).next();
         buffer.vertex(matrix, this.right, this.top, 0.0F).texture(this.right / 32.0F, ((this.top + (int) this.getScroll()) / 32.0F)).color(32, 32, 32, 255).next();
         buffer.vertex(matrix, this.left, this.top, 0.0F).texture(this.left / 32.0F, ((this.top + (int) this.getScroll()) / 32.0F)).color(32, 32, 32, 255).next();
-        tessellator.draw();
+        FrameStatistics.draw(tessellator);
+    }
+    
+    /**
+     * Marks the row offset index as outdated, it will be rebuilt the next time a row offset is requested.
+     * This should be called whenever the height of an entry changes.
+     */
+    public void invalidateLayout() {
+        this.layoutDirty = true;
+        this.layoutEpoch++;
+    }
+    
+    /**
+     * Gets a counter that is incremented every time the layout is invalidated, values derived from entry heights
+     * stay valid as long as it does not change.
+     */
+    public int getLayoutEpoch() {
+        return layoutEpoch;
+    }
+    
+    @SuppressWarnings("deprecation")
+    private void updateLayout() {
+        if (!layoutDirty)
+            return;
+        layoutDirty = false;
+        int size = entries.size();
+        if (rowOffsets.length < size + 1)
+            rowOffsets = new int[Math.max(size + 1, rowOffsets.length * 2)];
+        if (rowExtraHeights.length < size)
+            rowExtraHeights = new int[Math.max(size, rowExtraHeights.length * 2)];
+        int offset = 0;
+        int maxExtent = 0;
+        for (int i = 0; i < size; i++) {
+            E entry = entries.get(i);
+            rowOffsets[i] = offset;
+            offset += entry.getItemHeight();
+            int morePossibleHeight = entry.getMorePossibleHeight();
+            rowExtraHeights[i] = Math.max(0, morePossibleHeight);
+            if (morePossibleHeight >= 0 && offset + morePossibleHeight > maxExtent)
+                maxExtent = offset + morePossibleHeight;
+        }
+        rowOffsets[size] = offset;
+        maxRowExtent = Math.max(maxExtent, offset);
+    }
+    
+    /**
+     * Gets the sum of the heights of all entries before the entry at the index.
+     *
+     * @param index the index of the entry, clamped to {@code [0, getItemCount()]}
+     * @return the offset of the row, relative to the first row
+     */
+    protected int getRowOffset(int index) {
+        updateLayout();
+        return rowOffsets[MathHelper.clamp(index, 0, entries.size())];
+    }
+    
+    /**
+     * Gets the index of an entry from an index map, which is rebuilt after entries are added or removed.
+     *
+     * @param entry the entry
+     * @return the index of the entry, or {@code -1} if it is not in the list
+     */
+    public int indexOf(E entry) {
+        if (entryIndicesDirty) {
+            entryIndicesDirty = false;
+            entryIndices.clear();
+            for (int i = 0; i < entries.size(); i++)
+                entryIndices.put(entries.get(i), i);
+        }
+        return entryIndices.getInt(entry);
+    }
+    
+    /**
+     * Gets the offset of an entry relative to the first row, this is the scroll position aligning the entry with the top of the list.
+     *
+     * @param entry the entry
+     * @return the offset of the entry, or {@code -1} if it is not in the list
+     */
+    public int getEntryOffset(E entry) {
+        int index = indexOf(entry);
+        return index < 0 ? -1 : getRowOffset(index);
+    }
+    
+    /**
+     * Finds the entry covering the offset with a binary search over the row offset index.
+     *
+     * @param offset the offset relative to the first row
+     * @return the index of the entry, or {@code -1} if the offset is outside of the list
+     */
+    protected int getRowIndexAt(int offset) {
+        updateLayout();
+        int size = entries.size();
+        if (offset < 0 || offset >= rowOffsets[size])
+            return -1;
+        int low = 0, high = size - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (rowOffsets[mid + 1] > offset)
+                high = mid;
+            else
+                low = mid + 1;
+        }
+        return low;
     }
     
     @SuppressWarnings("deprecation")
@@ -196,7 +322,7 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
         int startY = this.top + 4 - (int) this.getScroll();
         if (this.renderSelection)
             this.renderHeader(matrices, rowLeft, startY, tessellator);
-        ScissorsHandler.INSTANCE.scissor(new Rectangle(left, top, width, bottom - top));
+        ScissorsHandler.INSTANCE.scissor(left, top, width, bottom - top);
         this.renderList(matrices, rowLeft, startY, mouseX, mouseY, delta);
         ScissorsHandler.INSTANCE.removeLastScissor();
         RenderSystem.disableDepthTest();
@@ -208,18 +334,9 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
         RenderSystem.shadeModel(7425);
         RenderSystem.disableTexture();
         Matrix4f matrix = matrices.peek().getModel();
-        buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
-        buffer.vertex(matrix, this.left, this.top + 4, 0.0F).texture(0, 1).color(0, 0, 0, 0).next();
-        buffer.vertex(matrix, this.right, this.top + 4, 0.0F).texture(1, 1).color(0, 0, 0, 0).next();
-        buffer.vertex(matrix, this.right, this.top, 0.0F).texture(1, 0).color(0, 0, 0, 255).next();
-        buffer.vertex(matrix, this.left, this.top, 0.0F).texture(0, 0).color(0, 0, 0, 255).next();
-        tessellator.draw();
-        buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
-        buffer.vertex(matrix, this.left, this.bottom, 0.0F).texture(0, 1).color(0, 0, 0, 255).next();
-        buffer.vertex(matrix, this.right, this.bottom, 0.0F).texture(1, 1).color(0, 0, 0, 255).next();
-        buffer.vertex(matrix, this.right, this.bottom - 4, 0.0F).texture(1, 0).color(0, 0, 0, 0).next();
-        buffer.vertex(matrix, this.left, this.bottom - 4, 0.0F).texture(0, 0).color(0, 0, 0, 0).next();
-        tessellator.draw();
+        QuadBatcher.fillGradient(matrix, this.left, this.top, this.right, this.top + 4, 0xFF000000, 0);
+        QuadBatcher.fillGradient(matrix, this.left, this.bottom - 4, this.right, this.bottom, 0, 0xFF000000);
+        QuadBatcher.flush();
         int maxScroll = this.getMaxScroll();
         renderScrollBar(matrices, tessellator, buffer, maxScroll, scrollbarPosition, int_4);
         
@@ -241,36 +358,20 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
             }
             
             Matrix4f matrix = matrices.peek().getModel();
-            buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
-            buffer.vertex(matrix, scrollbarPositionMinX, this.bottom, 0.0F).texture(0, 1).color(0, 0, 0, 255).next();
-            buffer.vertex(matrix, scrollbarPositionMaxX, this.bottom, 0.0F).texture(1, 1).color(0, 0, 0, 255).next();
-            buffer.vertex(matrix, scrollbarPositionMaxX, this.top, 0.0F).texture(1, 0).color(0, 0, 0, 255).next();
-            buffer.vertex(matrix, scrollbarPositionMinX, this.top, 0.0F).texture(0, 0).color(0, 0, 0, 255).next();
-            tessellator.draw();
-            buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
-            buffer.vertex(matrix, scrollbarPositionMinX, int_10 + int_9, 0.0F).texture(0, 1).color(128, 128, 128, 255).next();
-            buffer.vertex(matrix, scrollbarPositionMaxX, int_10 + int_9, 0.0F).texture(1, 1).color(128, 128, 128, 255).next();
-            buffer.vertex(matrix, scrollbarPositionMaxX, int_10, 0.0F).texture(1, 0).color(128, 128, 128, 255).next();
-            buffer.vertex(matrix, scrollbarPositionMinX, int_10, 0.0F).texture(0, 0).color(128, 128, 128, 255).next();
-            tessellator.draw();
-            buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
-            buffer.vertex(scrollbarPositionMinX, (int_10 + int_9 - 1), 0.0F).texture(0, 1).color(192, 192, 192, 255).next();
-            buffer.vertex((scrollbarPositionMaxX - 1), (int_10 + int_9 - 1), 0.0F).texture(1, 1).color(192, 192, 192, 255).next();
-            buffer.vertex((scrollbarPositionMaxX - 1), int_10, 0.0F).texture(1, 0).color(192, 192, 192, 255).next();
-            buffer.vertex(scrollbarPositionMinX, int_10, 0.0F).texture(0, 0).color(192, 192, 192, 255).next();
-            tessellator.draw();
+            QuadBatcher.fill(matrix, scrollbarPositionMinX, this.top, scrollbarPositionMaxX, this.bottom, 0xFF000000);
+            QuadBatcher.fill(matrix, scrollbarPositionMinX, int_10, scrollbarPositionMaxX, int_10 + int_9, 0xFF808080);
+            QuadBatcher.fill(null, scrollbarPositionMinX, int_10, scrollbarPositionMaxX - 1, int_10 + int_9 - 1, 0xFFC0C0C0);
+            QuadBatcher.flush();
         }
     }
     
     protected void centerScrollOn(E item) {
-        double d = (this.bottom - this.top) / -2d;
-        for (int i = 0; i < this.children().indexOf(item) && i < this.getItemCount(); i++)
-            d += getItem(i).getItemHeight();
+        double d = (this.bottom - this.top) / -2d + getRowOffset(this.indexOf(item));
         this.capYPosition(d);
     }
     
     protected void ensureVisible(E item) {
-        int rowTop = this.getRowTop(this.children().indexOf(item));
+        int rowTop = this.getRowTop(this.indexOf(item));
         int int_2 = rowTop - this.top - 4 - item.getItemHeight();
         if (int_2 < 0)
             this.scroll(int_2);
@@ -402,12 +503,16 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
         int itemCount = this.getItemCount();
         Tessellator tessellator = Tessellator.getInstance();
         BufferBuilder buffer = tessellator.getBuffer();
+        E hoveredItem = this.isMouseOver(int_3, int_4) ? this.getItemAtPosition(int_3, int_4) : null;
         
         for (int renderIndex = 0; renderIndex < itemCount; ++renderIndex) {
             E item = this.getItem(renderIndex);
-            int itemY = startY + headerHeight;
-            for (int i = 0; i < entries.size() && i < renderIndex; i++)
-                itemY += entries.get(i).getItemHeight();
+            boolean visible = this.isRowVisible(renderIndex);
+            if (this.cullingEnabled && !visible) {
+                item.dontRender(matrices, float_1);
+                continue;
+            }
+            int itemY = startY + headerHeight + getRowOffset(renderIndex);
             int itemHeight = item.getItemHeight() - 4;
             int itemWidth = this.getItemWidth();
             int itemMinX, itemMaxX;
@@ -423,26 +528,54 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
                 buffer.vertex(matrix, itemMaxX, itemY + itemHeight + 2, 0.0F).color(float_2, float_2, float_2, 1.0F).next();
                 buffer.vertex(matrix, itemMaxX, itemY - 2, 0.0F).color(float_2, float_2, float_2, 1.0F).next();
                 buffer.vertex(matrix, itemMinX, itemY - 2, 0.0F).color(float_2, float_2, float_2, 1.0F).next();
-                tessellator.draw();
+                FrameStatistics.draw(tessellator);
                 buffer.begin(7, VertexFormats.POSITION_COLOR);
                 buffer.vertex(matrix, itemMinX + 1, itemY + itemHeight + 1, 0.0F).color(0.0F, 0.0F, 0.0F, 1.0F).next();
                 buffer.vertex(matrix, itemMaxX - 1, itemY + itemHeight + 1, 0.0F).color(0.0F, 0.0F, 0.0F, 1.0F).next();
                 buffer.vertex(matrix, itemMaxX - 1, itemY - 1, 0.0F).color(0.0F, 0.0F, 0.0F, 1.0F).next();
                 buffer.vertex(matrix, itemMinX + 1, itemY - 1, 0.0F).color(0.0F, 0.0F, 0.0F, 1.0F).next();
-                tessellator.draw();
+                FrameStatistics.draw(tessellator);
                 RenderSystem.enableTexture();
             }
             
             int y = this.getRowTop(renderIndex);
             int x = this.getRowLeft();
             DiffuseLighting.disable();
-            renderItem(matrices, item, renderIndex, y, x, itemWidth, itemHeight, int_3, int_4, this.isMouseOver(int_3, int_4) && Objects.equals(this.getItemAtPosition(int_3, int_4), item), float_1);
+            renderItem(matrices, item, renderIndex, y, x, itemWidth, itemHeight, int_3, int_4, Objects.equals(hoveredItem, item), float_1);
+            if (visible)
+                checkRowLayout(renderIndex, item);
         }
         
     }
     
+    /**
+     * Tests if the entry at the index intersects the viewport, extended by the culling overscan.
+     *
+     * @param index the index of the entry
+     * @return whether the entry is visible
+     */
+    protected boolean isRowVisible(int index) {
+        int rowTop = this.getRowTop(index);
+        int rowHeight = this.getRowOffset(index + 1) - this.getRowOffset(index) + rowExtraHeights[index];
+        return rowTop + rowHeight >= this.top - this.cullingOverscan && rowTop <= this.bottom + this.cullingOverscan;
+    }
+    
+    /**
+     * Invalidates the layout if a visible entry changed its height without calling {@link #invalidateLayout()},
+     * only rows in the viewport are checked so entries scrolled out of view cost nothing.
+     */
+    @SuppressWarnings("deprecation")
+    private void checkRowLayout(int index, E item) {
+        if (layoutDirty)
+            return;
+        if (item.getItemHeight() != rowOffsets[index + 1] - rowOffsets[index] || Math.max(0, item.getMorePossibleHeight()) != rowExtraHeights[index])
+            invalidateLayout();
+    }
+    
     protected void renderItem(MatrixStack matrices, E item, int index, int y, int x, int entryWidth, int entryHeight, int mouseX, int mouseY, boolean isSelected, float delta) {
+        EntryRenderProfiler.start();
         item.render(matrices, index, y, x, entryWidth, entryHeight, mouseX, mouseY, isSelected, delta);
+        EntryRenderProfiler.stop(item.getClass());
     }
     
     protected int getRowLeft() {
@@ -450,10 +583,7 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
     }
     
     protected int getRowTop(int index) {
-        int integer = top + 4 - (int) this.getScroll() + headerHeight;
-        for (int i = 0; i < entries.size() && i < index; i++)
-            integer += entries.get(i).getItemHeight();
-        return integer;
+        return top + 4 - (int) this.getScroll() + headerHeight + getRowOffset(index);
     }
     
     protected boolean isFocused() {
@@ -473,7 +603,7 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
         buffer.vertex(matrix, this.left + this.width, y2, 0.0F).texture(((float) this.width / 32.0F), ((float) y2 / 32.0F)).color(64, 64, 64, alpha2).next();
         buffer.vertex(matrix, this.left + this.width, y1, 0.0F).texture(((float) this.width / 32.0F), ((float) y1 / 32.0F)).color(64, 64, 64, alpha1).next();
         buffer.vertex(matrix, this.left, y1, 0.0F).texture(0, ((float) y1 / 32.0F)).color(64, 64, 64, alpha1).next();
-        tessellator.draw();
+        FrameStatistics.draw(tessellator);
     }
     
     protected E remove(int int_1) {
@@ -505,6 +635,11 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
         
         public abstract void render(MatrixStack matrices, int index, int y, int x, int entryWidth, int entryHeight, int mouseX, int mouseY, boolean isHovered, float delta);
         
+        /**
+         * Called instead of {@link #render} when the entry is culled for being outside of the viewport.
+         */
+        public void dontRender(MatrixStack matrices, float delta) {}
+        
         public boolean isMouseOver(double double_1, double double_2) {
             return Objects.equals(this.parent.getItemAtPosition(double_1, double_2), this);
         }
@@ -519,6 +654,14 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
         
         public abstract int getItemHeight();
         
+        /**
+         * Notifies the parent list that the height of this entry has changed.
+         */
+        protected void invalidateLayout() {
+            if (parent != null)
+                parent.invalidateLayout();
+        }
+        
         @Deprecated
         public int getMorePossibleHeight() {
             return -1;
@@ -536,6 +679,7 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
         @Override
         public void clear() {
             items.clear();
+            entriesChanged();
         }
         
         @Override
@@ -552,6 +696,7 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
         public E set(int int_1, E itemListWidget$Item_1) {
             E itemListWidget$Item_2 = this.items.set(int_1, itemListWidget$Item_1);
             itemListWidget$Item_1.parent = DynamicEntryListWidget.this;
+            entriesChanged();
             return itemListWidget$Item_2;
         }
         
@@ -559,11 +704,19 @@ public abstract class DynamicEntryListWidget<E extends DynamicEntryListWidget.En
         public void add(int int_1, E itemListWidget$Item_1) {
             this.items.add(int_1, itemListWidget$Item_1);
             itemListWidget$Item_1.parent = DynamicEntryListWidget.this;
+            entriesChanged();
         }
         
         @Override
         public E remove(int int_1) {
-            return this.items.remove(int_1);
+            E item = this.items.remove(int_1);
+            entriesChanged();
+            return item;
+        }
+        
+        private void entriesChanged() {
+            entryIndicesDirty = true;
+            invalidateLayout();
         }
     }
 }
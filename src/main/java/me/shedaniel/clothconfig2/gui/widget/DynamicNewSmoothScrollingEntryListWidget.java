@@ -25,6 +25,9 @@
 package me.shedaniel.clothconfig2.gui.widget;
 
 import me.shedaniel.clothconfig2.ClothConfigInitializer;
+import me.shedaniel.clothconfig2.impl.FrameClock;
+import me.shedaniel.clothconfig2.impl.QuadBatcher;
+import me.shedaniel.clothconfig2.impl.ScrollAnimator;
 import me.shedaniel.math.Rectangle;
 import me.shedaniel.math.impl.PointHelper;
 import net.fabricmc.api.EnvType;
@@ -32,14 +35,12 @@ import net.fabricmc.api.Environment;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.render.BufferBuilder;
 import net.minecraft.client.render.Tessellator;
-import net.minecraft.client.render.VertexFormats;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Matrix4f;
 
 import static me.shedaniel.clothconfig2.api.ScrollingContainer.clampExtension;
-import static me.shedaniel.clothconfig2.api.ScrollingContainer.handleScrollingPosition;
 
 @Environment(EnvType.CLIENT)
 public abstract class DynamicNewSmoothScrollingEntryListWidget<E extends DynamicEntryListWidget.Entry<E>> extends DynamicEntryListWidget<E> {
@@ -48,6 +49,7 @@ public abstract class DynamicNewSmoothScrollingEntryListWidget<E extends Dynamic
     protected boolean smoothScrolling = true;
     protected long start;
     protected long duration;
+    private final ScrollAnimator animator = new ScrollAnimator();
     
     public DynamicNewSmoothScrollingEntryListWidget(MinecraftClient client, int width, int height, int top, int bottom, Identifier backgroundLocation) {
         super(client, width, height, top, bottom, backgroundLocation);
@@ -122,7 +124,7 @@ public abstract class DynamicNewSmoothScrollingEntryListWidget<E extends Dynamic
         target = clampExtension(value, getMaxScroll());
         
         if (animated) {
-            start = System.currentTimeMillis();
+            start = FrameClock.currentTimeMillis();
             this.duration = duration;
         } else
             scroll = target;
@@ -130,9 +132,9 @@ public abstract class DynamicNewSmoothScrollingEntryListWidget<E extends Dynamic
     
     @Override
     public void render(MatrixStack matrices, int mouseX, int mouseY, float delta) {
-        double[] target = {this.target};
-        scroll = handleScrollingPosition(target, scroll, getMaxScroll(), delta, start, duration);
-        this.target = target[0];
+        animator.set(scroll, target).update(this, getMaxScroll(), delta, start, duration);
+        scroll = animator.getPosition();
+        target = animator.getTarget();
         super.render(matrices, mouseX, mouseY, delta);
     }
     
@@ -148,39 +150,24 @@ public abstract class DynamicNewSmoothScrollingEntryListWidget<E extends Dynamic
             height = Math.max(10, height);
             int minY = Math.min(Math.max((int) this.getScroll() * (this.bottom - this.top - height) / maxScroll + this.top, this.top), this.bottom - height);
             
-            int bottomc = new Rectangle(scrollbarPositionMinX, minY, scrollbarPositionMaxX - scrollbarPositionMinX, height).contains(PointHelper.ofMouse()) ? 168 : 128;
-            int topc = new Rectangle(scrollbarPositionMinX, minY, scrollbarPositionMaxX - scrollbarPositionMinX, height).contains(PointHelper.ofMouse()) ? 222 : 172;
+            boolean hovered = new Rectangle(scrollbarPositionMinX, minY, scrollbarPositionMaxX - scrollbarPositionMinX, height).contains(PointHelper.ofMouse());
+            int bottomc = hovered ? 0xFFA8A8A8 : 0xFF808080;
+            int topc = hovered ? 0xFFDEDEDE : 0xFFACACAC;
             
             Matrix4f matrix = matrices.peek().getModel();
             // Black Bar
-            buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
-            buffer.vertex(matrix, scrollbarPositionMinX, this.bottom, 0.0F).texture(0, 1).color(0, 0, 0, 255).next();
-            buffer.vertex(matrix, scrollbarPositionMaxX, this.bottom, 0.0F).texture(1, 1).color(0, 0, 0, 255).next();
-            buffer.vertex(matrix, scrollbarPositionMaxX, this.top, 0.0F).texture(1, 0).color(0, 0, 0, 255).next();
-            buffer.vertex(matrix, scrollbarPositionMinX, this.top, 0.0F).texture(0, 0).color(0, 0, 0, 255).next();
-            tessellator.draw();
-            
+            QuadBatcher.fill(matrix, scrollbarPositionMinX, this.top, scrollbarPositionMaxX, this.bottom, 0xFF000000);
             // Bottom
-            buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
-            buffer.vertex(matrix, scrollbarPositionMinX, minY + height, 0.0F).texture(0, 1).color(bottomc, bottomc, bottomc, 255).next();
-            buffer.vertex(matrix, scrollbarPositionMaxX, minY + height, 0.0F).texture(1, 1).color(bottomc, bottomc, bottomc, 255).next();
-            buffer.vertex(matrix, scrollbarPositionMaxX, minY, 0.0F).texture(1, 0).color(bottomc, bottomc, bottomc, 255).next();
-            buffer.vertex(matrix, scrollbarPositionMinX, minY, 0.0F).texture(0, 0).color(bottomc, bottomc, bottomc, 255).next();
-            tessellator.draw();
-            
+            QuadBatcher.fill(matrix, scrollbarPositionMinX, minY, scrollbarPositionMaxX, minY + height, bottomc);
             // Top
-            buffer.begin(7, VertexFormats.POSITION_TEXTURE_COLOR);
-            buffer.vertex(matrix, scrollbarPositionMinX, (minY + height - 1), 0.0F).texture(0, 1).color(topc, topc, topc, 255).next();
-            buffer.vertex(matrix, (scrollbarPositionMaxX - 1), (minY + height - 1), 0.0F).texture(1, 1).color(topc, topc, topc, 255).next();
-            buffer.vertex(matrix, (scrollbarPositionMaxX - 1), minY, 0.0F).texture(1, 0).color(topc, topc, topc, 255).next();
-            buffer.vertex(matrix, scrollbarPositionMinX, minY, 0.0F).texture(0, 0).color(topc, topc, topc, 255).next();
-            tessellator.draw();
+            QuadBatcher.fill(matrix, scrollbarPositionMinX, minY, scrollbarPositionMaxX - 1, minY + height - 1, topc);
+            QuadBatcher.flush();
         }
     }
     
     public static class Interpolation {
         public static double expoEase(double start, double end, double amount) {
-            return start + (end - start) * ClothConfigInitializer.getEasingMethod().apply(amount);
+            return start + (end - start) * FrameClock.getEasingMethod().apply(amount);
         }
     }
     
@@ -0,0 +1,59 @@
+package me.shedaniel.clothconfig2.impl;
+
+import com.google.common.collect.MapMaker;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Keeps track of the animations of a config screen that are still moving. Animated widgets register themselves every
+ * frame while they animate and unregister once they settled, so the screen knows whether redrawing would change anything.
+ * Animations that were not advanced during a frame, because their widget was collapsed, scrolled out of view or discarded,
+ * are settled by {@link #sweep()}. Widgets are held weakly and compared by identity.
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public final class AnimationScheduler {
+    private final Set<Object> active = Collections.newSetFromMap(new MapMaker().weakKeys().makeMap());
+    private final Set<Object> advanced = Collections.newSetFromMap(new MapMaker().weakKeys().makeMap());
+    
+    public void animate(Object animation) {
+        active.add(animation);
+        advanced.add(animation);
+    }
+    
+    public void settle(Object animation) {
+        if (!active.isEmpty()) {
+            active.remove(animation);
+            advanced.remove(animation);
+        }
+    }
+    
+    public boolean isAnimating(Object animation) {
+        return !active.isEmpty() && active.contains(animation);
+    }
+    
+    /**
+     * @return whether any animation is still moving
+     */
+    public boolean isAnimating() {
+        return !active.isEmpty();
+    }
+    
+    /**
+     * Settles every animation that was not advanced since the last sweep, called at the end of every frame.
+     */
+    public void sweep() {
+        if (active.size() != advanced.size())
+            active.retainAll(advanced);
+        advanced.clear();
+    }
+    
+    public void clear() {
+        active.clear();
+        advanced.clear();
+    }
+}
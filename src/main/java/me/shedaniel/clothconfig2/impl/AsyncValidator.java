@@ -0,0 +1,134 @@
+package me.shedaniel.clothconfig2.impl;
+
+import me.shedaniel.clothconfig2.ClothConfigInitializer;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.text.Text;
+import net.minecraft.text.TranslatableText;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Runs an error supplier on a background thread, requests are debounced and results of stale values are discarded.
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public class AsyncValidator<T> {
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 250;
+    private final Function<T, Optional<Text>> errorSupplier;
+    private final long debounceMillis;
+    private final Runnable settleListener;
+    private boolean hasRequest = false;
+    @Nullable
+    private T requestedValue;
+    @Nullable
+    private Optional<Text> result;
+    @Nullable
+    private ScheduledFuture<?> pending;
+    private int generation;
+    
+    /**
+     * @param errorSupplier  the error supplier to run in the background
+     * @param debounceMillis the time a value has to stay unchanged before it is validated
+     * @param settleListener called on the client thread once the result of the latest value is known
+     */
+    public AsyncValidator(Function<T, Optional<Text>> errorSupplier, long debounceMillis, Runnable settleListener) {
+        this.errorSupplier = Objects.requireNonNull(errorSupplier);
+        this.debounceMillis = Math.max(0, debounceMillis);
+        this.settleListener = settleListener;
+    }
+    
+    /**
+     * Requests the validation of a value, earlier requests for other values are cancelled.
+     *
+     * @param value the value to validate
+     * @return the error of the value, or {@code null} if it is still being validated
+     */
+    @Nullable
+    public synchronized Optional<Text> validate(@Nullable T value) {
+        if (!hasRequest || !Objects.equals(requestedValue, value)) {
+            hasRequest = true;
+            requestedValue = value;
+            result = null;
+            if (pending != null)
+                pending.cancel(true);
+            int requestGeneration = ++generation;
+            pending = BackgroundExecutor.INSTANCE.schedule(() -> run(requestGeneration, value), debounceMillis, TimeUnit.MILLISECONDS);
+        }
+        return result;
+    }
+    
+    private void run(int requestGeneration, @Nullable T value) {
+        synchronized (this) {
+            if (requestGeneration != generation)
+                return;
+        }
+        Optional<Text> error;
+        try {
+            error = Objects.requireNonNull(errorSupplier.apply(value));
+        } catch (Throwable throwable) {
+            ClothConfigInitializer.LOGGER.error("[ClothConfig] Failed to validate value %s", value, throwable);
+            error = Optional.of(new TranslatableText("text.cloth-config.error.validation_failed"));
+        }
+        synchronized (this) {
+            if (requestGeneration != generation)
+                return;
+            result = error;
+            pending = null;
+            notifyAll();
+        }
+        MinecraftClient.getInstance().execute(settleListener);
+    }
+    
+    public synchronized boolean isValidating() {
+        return hasRequest && result == null;
+    }
+    
+    /**
+     * Waits for the latest requested value to be validated, skipping the remaining debounce time.
+     *
+     * @param timeoutMillis the maximum time to wait
+     * @return whether the validation settled in time
+     */
+    public synchronized boolean await(long timeoutMillis) {
+        if (!isValidating())
+            return true;
+        if (pending != null && pending.getDelay(TimeUnit.MILLISECONDS) > 0 && pending.cancel(false)) {
+            int requestGeneration = generation;
+            T value = requestedValue;
+            pending = BackgroundExecutor.INSTANCE.schedule(() -> run(requestGeneration, value), 0, TimeUnit.MILLISECONDS);
+        }
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        try {
+            while (result == null) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0)
+                    return false;
+                wait(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
+    }
+    
+    /**
+     * Cancels the pending validation, the next request validates its value again.
+     */
+    public synchronized void cancel() {
+        if (pending != null)
+            pending.cancel(true);
+        pending = null;
+        hasRequest = false;
+        result = null;
+        generation++;
+    }
+}
@@ -0,0 +1,25 @@
+package me.shedaniel.clothconfig2.impl;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Daemon threads for work that should stay off the render thread, such as validation and searching.
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public final class BackgroundExecutor {
+    private static final AtomicInteger THREAD_ID = new AtomicInteger();
+    public static final ScheduledExecutorService INSTANCE = Executors.newScheduledThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "Cloth Config Worker #" + THREAD_ID.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    private BackgroundExecutor() {}
+}
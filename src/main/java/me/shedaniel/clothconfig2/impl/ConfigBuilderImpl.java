@@ -4,11 +4,13 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import me.shedaniel.clothconfig2.api.ConfigBuilder;
 import me.shedaniel.clothconfig2.api.ConfigCategory;
+import me.shedaniel.clothconfig2.api.ConfigMetrics;
 import me.shedaniel.clothconfig2.api.Expandable;
 import me.shedaniel.clothconfig2.api.TabbedConfigScreen;
 import me.shedaniel.clothconfig2.gui.AbstractConfigScreen;
 import me.shedaniel.clothconfig2.gui.ClothConfigScreen;
 import me.shedaniel.clothconfig2.gui.GlobalizedClothConfigScreen;
+import me.shedaniel.clothconfig2.impl.metrics.ConfigMetricsImpl;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.client.gui.DrawableHelper;
@@ -36,6 +38,7 @@ public class ConfigBuilderImpl implements ConfigBuilder {
     private boolean listSmoothScroll = true;
     private boolean doesConfirmSave = true;
     private boolean transparentBackground = false;
+    private boolean entryCulling = false;
     private Identifier defaultBackground = DrawableHelper.BACKGROUND_TEXTURE;
     private Consumer<Screen> afterInitConsumer = screen -> {};
     private final Map<Text, Identifier> categoryBackground = Maps.newHashMap();
@@ -76,6 +79,12 @@ public class ConfigBuilderImpl implements ConfigBuilder {
         return this;
     }
     
+    @Override
+    public ConfigBuilder setEntryCulling(boolean entryCulling) {
+        this.entryCulling = entryCulling;
+        return this;
+    }
+    
     @Override
     public ConfigBuilder setAfterInitConsumer(Consumer<Screen> afterInitConsumer) {
         this.afterInitConsumer = afterInitConsumer;
@@ -217,6 +226,7 @@ public class ConfigBuilderImpl implements ConfigBuilder {
     public Screen build() {
         if (dataMap.isEmpty() || fallbackCategory == null)
             throw new NullPointerException("There cannot be no categories or fallback category!");
+        ConfigMetrics.Span span = ConfigMetricsImpl.begin(ConfigMetrics.SpanType.BUILD, title, null, null);
         AbstractConfigScreen screen;
         if (globalized) {
             screen = new GlobalizedClothConfigScreen(parent, title, dataMap, defaultBackground);
@@ -227,6 +237,7 @@ public class ConfigBuilderImpl implements ConfigBuilder {
         screen.setEditable(editable);
         screen.setFallbackCategory(fallbackCategory);
         screen.setTransparentBackground(transparentBackground);
+        screen.setEntryCulling(entryCulling);
         screen.setAlwaysShowTabs(alwaysShowTabs);
         screen.setConfirmSave(doesConfirmSave);
         screen.setAfterInitConsumer(afterInitConsumer);
@@ -234,6 +245,7 @@ public class ConfigBuilderImpl implements ConfigBuilder {
             ((Expandable) screen).setExpanded(globalizedExpanded);
         if (screen instanceof TabbedConfigScreen)
             categoryBackground.forEach(((TabbedConfigScreen) screen)::registerCategoryBackground);
+        span.end(screen.getEntryCount());
         return screen;
     }
     
@@ -0,0 +1,224 @@
+package me.shedaniel.clothconfig2.impl;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.ints.IntHeapPriorityQueue;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+import java.util.function.ToDoubleBiFunction;
+
+/**
+ * Substring search over the lowercase search keys of dropdown selections.
+ * Candidates are narrowed with a trigram index, or with the previous matches if the keyword extends the previous keyword.
+ * Candidates without a search key always match.
+ * Searches running on an interrupted thread are aborted with a {@link CancellationException}.
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public class DropdownSearchIndex {
+    private final String[] keys;
+    private final int[] keylessIndices;
+    @Nullable
+    private Long2ObjectMap<int[]> trigrams;
+    @Nullable
+    private String lastKeyword;
+    @Nullable
+    private IntList lastMatches;
+    
+    /**
+     * @param keys the search keys of the candidates, {@code null} for candidates without a search key
+     */
+    public DropdownSearchIndex(List<String> keys) {
+        this.keys = new String[keys.size()];
+        IntList keyless = new IntArrayList();
+        for (int i = 0; i < keys.size(); i++) {
+            String key = keys.get(i);
+            if (key == null)
+                keyless.add(i);
+            else
+                this.keys[i] = key.toLowerCase(Locale.ROOT);
+        }
+        this.keylessIndices = keyless.toIntArray();
+    }
+    
+    public int size() {
+        return keys.length;
+    }
+    
+    private static void checkCancelled(int iteration) {
+        if ((iteration & 1023) == 0 && Thread.currentThread().isInterrupted())
+            throw new CancellationException();
+    }
+    
+    private static long trigram(String s, int index) {
+        return ((long) s.charAt(index) << 32) | ((long) s.charAt(index + 1) << 16) | s.charAt(index + 2);
+    }
+    
+    private Long2ObjectMap<int[]> getTrigrams() {
+        if (trigrams == null) {
+            Long2ObjectOpenHashMap<IntArrayList> postings = new Long2ObjectOpenHashMap<>();
+            for (int i = 0; i < keys.length; i++) {
+                String key = keys[i];
+                if (key == null)
+                    continue;
+                for (int j = 0; j + 3 <= key.length(); j++) {
+                    long trigram = trigram(key, j);
+                    IntArrayList list = postings.get(trigram);
+                    if (list == null)
+                        postings.put(trigram, list = new IntArrayList());
+                    if (list.isEmpty() || list.getInt(list.size() - 1) != i)
+                        list.add(i);
+                }
+            }
+            Long2ObjectOpenHashMap<int[]> map = new Long2ObjectOpenHashMap<>(postings.size());
+            for (Long2ObjectMap.Entry<IntArrayList> entry : postings.long2ObjectEntrySet())
+                map.put(entry.getLongKey(), entry.getValue().toIntArray());
+            trigrams = map;
+        }
+        return trigrams;
+    }
+    
+    /**
+     * Finds the candidates containing the keyword. With a non empty keyword the {@code rankedLimit} most similar
+     * candidates come first, ordered by similarity, followed by the remaining matches in their original order.
+     *
+     * @param keyword     the keyword
+     * @param rankedLimit the number of matches to rank
+     * @param similarity  the similarity of a search key to the keyword, higher is more similar
+     * @return the indices of the matching candidates
+     */
+    public synchronized int[] search(String keyword, int rankedLimit, ToDoubleBiFunction<String, String> similarity) {
+        keyword = keyword.toLowerCase(Locale.ROOT);
+        IntList matches = findMatches(keyword);
+        lastKeyword = keyword;
+        lastMatches = matches;
+        if (keyword.isEmpty())
+            return matches.toIntArray();
+        return rank(matches, keyword, rankedLimit, similarity);
+    }
+    
+    /**
+     * Finds the first candidates starting with the keyword in their original order, this is cheap enough to show
+     * a first page of results while the full search is still running. Keys of namespaced identifiers also match
+     * if their path starts with the keyword.
+     *
+     * @param keyword the keyword
+     * @param limit   the maximum number of results
+     * @return the indices of the matching candidates
+     */
+    public int[] searchPrefix(String keyword, int limit) {
+        keyword = keyword.toLowerCase(Locale.ROOT);
+        IntList matches = new IntArrayList(Math.min(limit, keys.length));
+        for (int i = 0; i < keys.length && matches.size() < limit; i++) {
+            checkCancelled(i);
+            String key = keys[i];
+            if (key == null || key.startsWith(keyword) || key.startsWith(keyword, key.indexOf(':') + 1))
+                matches.add(i);
+        }
+        return matches.toIntArray();
+    }
+    
+    private IntList findMatches(String keyword) {
+        if (keyword.isEmpty()) {
+            IntList all = new IntArrayList(keys.length);
+            for (int i = 0; i < keys.length; i++)
+                all.add(i);
+            return all;
+        }
+        if (lastKeyword != null && lastMatches != null && keyword.contains(lastKeyword))
+            return filter(lastMatches, keyword);
+        if (keyword.length() < 3) {
+            IntList matches = new IntArrayList();
+            for (int i = 0; i < keys.length; i++) {
+                checkCancelled(i);
+                if (keys[i] == null || keys[i].contains(keyword))
+                    matches.add(i);
+            }
+            return matches;
+        }
+        Long2ObjectMap<int[]> trigrams = getTrigrams();
+        int[] candidates = null;
+        for (int j = 0; j + 3 <= keyword.length(); j++) {
+            int[] posting = trigrams.get(trigram(keyword, j));
+            if (posting == null) {
+                candidates = IntArrays.EMPTY_ARRAY;
+                break;
+            }
+            if (candidates == null || posting.length < candidates.length)
+                candidates = posting;
+        }
+        // Keyless candidates always match, merge them back in their original order
+        IntList merged = new IntArrayList(candidates.length + keylessIndices.length);
+        int i = 0, j = 0;
+        while (i < candidates.length || j < keylessIndices.length) {
+            if (j >= keylessIndices.length || (i < candidates.length && candidates[i] < keylessIndices[j]))
+                merged.add(candidates[i++]);
+            else
+                merged.add(keylessIndices[j++]);
+        }
+        return filter(merged, keyword);
+    }
+    
+    private IntList filter(IntList candidates, String keyword) {
+        IntList matches = new IntArrayList(candidates.size());
+        for (int k = 0; k < candidates.size(); k++) {
+            checkCancelled(k);
+            int index = candidates.getInt(k);
+            String key = keys[index];
+            if (key == null || key.contains(keyword))
+                matches.add(index);
+        }
+        return matches;
+    }
+    
+    private int[] rank(IntList matches, String keyword, int rankedLimit, ToDoubleBiFunction<String, String> similarity) {
+        int size = matches.size();
+        double[] scores = new double[size];
+        for (int k = 0; k < size; k++) {
+            checkCancelled(k);
+            String key = keys[matches.getInt(k)];
+            scores[k] = key == null ? Double.MAX_VALUE : similarity.applyAsDouble(key, keyword);
+        }
+        int limit = Math.max(0, Math.min(rankedLimit, size));
+        // Min heap of the best positions, equal scores evict the later position to keep the sort stable
+        IntHeapPriorityQueue best = new IntHeapPriorityQueue(limit, (a, b) -> {
+            int compare = Double.compare(scores[a], scores[b]);
+            return compare != 0 ? compare : Integer.compare(b, a);
+        });
+        for (int k = 0; k < size && limit > 0; k++) {
+            if (best.size() < limit)
+                best.enqueue(k);
+            else if (scores[k] > scores[best.firstInt()]) {
+                best.dequeueInt();
+                best.enqueue(k);
+            }
+        }
+        int[] ranked = new int[best.size()];
+        BitSet rankedPositions = new BitSet(size);
+        for (int k = 0; k < ranked.length; k++) {
+            ranked[k] = best.dequeueInt();
+            rankedPositions.set(ranked[k]);
+        }
+        IntArrays.mergeSort(ranked, (a, b) -> {
+            int compare = Double.compare(scores[b], scores[a]);
+            return compare != 0 ? compare : Integer.compare(a, b);
+        });
+        int[] result = new int[size];
+        int n = 0;
+        for (int position : ranked)
+            result[n++] = matches.getInt(position);
+        for (int k = rankedPositions.nextClearBit(0); k < size; k = rankedPositions.nextClearBit(k + 1))
+            result[n++] = matches.getInt(k);
+        return result;
+    }
+}
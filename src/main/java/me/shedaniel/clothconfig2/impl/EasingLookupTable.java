@@ -0,0 +1,50 @@
+package me.shedaniel.clothconfig2.impl;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * An easing curve sampled at evenly spaced points between {@code 0} and {@code 1} and linearly interpolated in between.
+ * Both ends are exact, values outside of the sampled range are computed by the curve itself.
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public final class EasingLookupTable implements EasingMethod {
+    public static final int DEFAULT_SAMPLES = 2048;
+    private final DoubleUnaryOperator function;
+    private final double[] samples;
+    private final int intervals;
+    
+    public EasingLookupTable(DoubleUnaryOperator function) {
+        this(function, DEFAULT_SAMPLES);
+    }
+    
+    /**
+     * @param function the easing curve
+     * @param samples  the number of samples, at least {@code 2}
+     */
+    public EasingLookupTable(DoubleUnaryOperator function, int samples) {
+        if (samples < 2)
+            throw new IllegalArgumentException("At least 2 samples are required, got " + samples);
+        this.function = function;
+        this.samples = new double[samples];
+        this.intervals = samples - 1;
+        for (int i = 0; i < samples; i++)
+            this.samples[i] = function.applyAsDouble(i / (double) intervals);
+    }
+    
+    @Override
+    public double apply(double v) {
+        if (!(v >= 0 && v <= 1))
+            return function.applyAsDouble(v);
+        double position = v * intervals;
+        int index = (int) position;
+        if (index >= intervals)
+            return samples[intervals];
+        double fraction = position - index;
+        return samples[index] + (samples[index + 1] - samples[index]) * fraction;
+    }
+}
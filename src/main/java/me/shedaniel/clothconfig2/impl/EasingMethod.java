@@ -1,6 +1,6 @@
 package me.shedaniel.clothconfig2.impl;
 
-import java.util.function.Function;
+import java.util.function.DoubleUnaryOperator;
 
 public interface EasingMethod {
     
@@ -9,23 +9,48 @@ public interface EasingMethod {
     enum EasingMethodImpl implements EasingMethod {
         NONE(v -> 1.0),
         LINEAR(v -> v),
-        EXPO(v -> ((v == 1.0) ? 1 : 1 * (-Math.pow(2, -10 * v) + 1))),
+        EXPO(true, v -> ((v == 1.0) ? 1 : 1 * (-Math.pow(2, -10 * v) + 1))),
         QUAD(v -> -1 * (v /= 1) * (v - 2)),
         QUART(v -> ((v == 1.0) ? 1 : 1 * (-1 * ((v = v - 1) * v * v * v - 1)))),
-        SINE(v -> Math.sin(v * (Math.PI / 2))),
+        SINE(true, v -> Math.sin(v * (Math.PI / 2))),
         CUBIC(v -> ((v = v - 1) * v * v + 1)),
         QUINTIC(v -> ((v = v - 1) * v * v * v * v + 1)),
-        CIRC(v -> Math.sqrt(1 - (v = v - 1) * v));
+        CIRC(true, v -> Math.sqrt(1 - (v = v - 1) * v));
         
-        private final Function<Double, Double> function;
+        private static boolean lookupTables = Boolean.getBoolean("cloth-config2.easingLookupTables");
+        private final boolean transcendental;
+        private final DoubleUnaryOperator function;
+        private EasingLookupTable lookupTable;
         
-        EasingMethodImpl(Function<Double, Double> function) {
+        EasingMethodImpl(DoubleUnaryOperator function) {
+            this(false, function);
+        }
+        
+        EasingMethodImpl(boolean transcendental, DoubleUnaryOperator function) {
+            this.transcendental = transcendental;
             this.function = function;
         }
         
+        /**
+         * Sets whether the transcendental curves (EXPO, SINE and CIRC) are interpolated from a precomputed
+         * {@link EasingLookupTable} instead of being computed, defaults to the {@code cloth-config2.easingLookupTables} system property.
+         */
+        public static void setLookupTablesEnabled(boolean enabled) {
+            lookupTables = enabled;
+        }
+        
+        public static boolean isLookupTablesEnabled() {
+            return lookupTables;
+        }
+        
         @Override
         public double apply(double v) {
-            return function.apply(v);
+            if (lookupTables && transcendental) {
+                if (lookupTable == null)
+                    lookupTable = new EasingLookupTable(function);
+                return lookupTable.apply(v);
+            }
+            return function.applyAsDouble(v);
         }
         
         @Override
@@ -0,0 +1,177 @@
+package me.shedaniel.clothconfig2.impl;
+
+import com.google.common.collect.Lists;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import me.shedaniel.clothconfig2.api.AbstractConfigEntry;
+import me.shedaniel.clothconfig2.api.ReferenceProvider;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.text.Text;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Keeps running counts of the edited, errored and restart requiring entries of a config screen.
+ * Entries are only re-evaluated after they reported a value change, see {@link AbstractConfigEntry#notifyValueChanged()},
+ * top level entries containing an entry with an impure error supplier are re-evaluated on every query.
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public class EditStateTracker {
+    private final List<AbstractConfigEntry<?>> entries = Lists.newArrayList();
+    private final Reference2IntOpenHashMap<AbstractConfigEntry<?>> rootIndices = new Reference2IntOpenHashMap<>();
+    private final BitSet dirty = new BitSet();
+    private final BitSet impure = new BitSet();
+    private final BitSet edited = new BitSet();
+    private final BitSet errored = new BitSet();
+    private final BitSet requiresRestart = new BitSet();
+    private final BitSet validating = new BitSet();
+    private Text[] errors;
+    private int editedCount;
+    private int erroredCount;
+    private int requiresRestartCount;
+    private int validatingCount;
+    private boolean allDirty = true;
+    
+    public EditStateTracker(Collection<List<AbstractConfigEntry<?>>> categorizedEntries) {
+        this.rootIndices.defaultReturnValue(-1);
+        for (List<AbstractConfigEntry<?>> categoryEntries : categorizedEntries) {
+            for (AbstractConfigEntry<?> entry : categoryEntries) {
+                int index = entries.size();
+                entries.add(entry);
+                mapChildren(entry, index);
+            }
+        }
+        this.errors = new Text[entries.size()];
+    }
+    
+    private void mapChildren(AbstractConfigEntry<?> entry, int rootIndex) {
+        if (rootIndices.containsKey(entry))
+            return;
+        rootIndices.put(entry, rootIndex);
+        if (!entry.isErrorSupplierPure())
+            impure.set(rootIndex);
+        List<ReferenceProvider<?>> children = entry.getReferenceProviderEntries();
+        if (children != null)
+            for (ReferenceProvider<?> child : children)
+                mapChildren(child.provideReferenceEntry(), rootIndex);
+    }
+    
+    /**
+     * Marks the top level entry containing the entry for re-evaluation, entries unknown to the tracker
+     * cause every entry to be re-evaluated.
+     */
+    public void markDirty(AbstractConfigEntry<?> entry) {
+        int index = rootIndices.getInt(entry);
+        if (index >= 0) {
+            dirty.set(index);
+            if (!entry.isErrorSupplierPure())
+                impure.set(index);
+        } else
+            allDirty = true;
+    }
+    
+    public void markAllDirty() {
+        this.allDirty = true;
+    }
+    
+    private void update() {
+        if (allDirty) {
+            allDirty = false;
+            dirty.clear();
+            for (int i = 0; i < entries.size(); i++)
+                evaluate(i);
+        } else {
+            if (!impure.isEmpty())
+                dirty.or(impure);
+            if (!dirty.isEmpty()) {
+                for (int i = dirty.nextSetBit(0); i >= 0; i = dirty.nextSetBit(i + 1))
+                    evaluate(i);
+                dirty.clear();
+            }
+        }
+    }
+    
+    private void evaluate(int index) {
+        AbstractConfigEntry<?> entry = entries.get(index);
+        Optional<Text> error = entry.getConfigError();
+        boolean isEdited = entry.isEdited();
+        boolean isErrored = error.isPresent();
+        errors[index] = error.orElse(null);
+        editedCount += set(edited, index, isEdited);
+        erroredCount += set(errored, index, isErrored);
+        requiresRestartCount += set(requiresRestart, index, !isErrored && isEdited && entry.isRequiresRestart());
+        validatingCount += set(validating, index, !isErrored && isValidating(entry));
+    }
+    
+    private static boolean isValidating(AbstractConfigEntry<?> entry) {
+        if (entry.isValidating())
+            return true;
+        List<ReferenceProvider<?>> children = entry.getReferenceProviderEntries();
+        if (children != null)
+            for (ReferenceProvider<?> child : children)
+                if (isValidating(child.provideReferenceEntry()))
+                    return true;
+        return false;
+    }
+    
+    private static int set(BitSet set, int index, boolean value) {
+        boolean old = set.get(index);
+        if (old == value)
+            return 0;
+        set.set(index, value);
+        return value ? 1 : -1;
+    }
+    
+    public boolean isEdited() {
+        update();
+        return editedCount > 0;
+    }
+    
+    public boolean hasErrors() {
+        update();
+        return erroredCount > 0;
+    }
+    
+    public boolean isRequiresRestart() {
+        update();
+        return requiresRestartCount > 0;
+    }
+    
+    public boolean isValidating() {
+        update();
+        return validatingCount > 0;
+    }
+    
+    public int getEditedCount() {
+        update();
+        return editedCount;
+    }
+    
+    public int getErroredCount() {
+        update();
+        return erroredCount;
+    }
+    
+    public int getRequiresRestartCount() {
+        update();
+        return requiresRestartCount;
+    }
+    
+    public int getValidatingCount() {
+        update();
+        return validatingCount;
+    }
+    
+    public List<Text> getErrors() {
+        update();
+        List<Text> list = Lists.newArrayListWithCapacity(erroredCount);
+        for (int i = errored.nextSetBit(0); i >= 0; i = errored.nextSetBit(i + 1))
+            list.add(errors[i]);
+        return list;
+    }
+}
@@ -0,0 +1,198 @@
+package me.shedaniel.clothconfig2.impl;
+
+import com.google.common.collect.Lists;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.fabricmc.loader.api.FabricLoader;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.font.TextRenderer;
+import net.minecraft.client.gui.DrawableHelper;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.text.LiteralText;
+import net.minecraft.text.Text;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Measures the time and allocations of rendering entries, grouped by entry class over the last {@link #WINDOW_FRAMES} frames.
+ * Profiling is available in development environments or with the {@code cloth-config2.entryProfiler} system property,
+ * and is toggled with Ctrl + F8 on a config screen.
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public final class EntryRenderProfiler {
+    public static final int WINDOW_FRAMES = 120;
+    private static final int OVERLAY_ROWS = 10;
+    private static final boolean AVAILABLE = FabricLoader.getInstance().isDevelopmentEnvironment() || Boolean.getBoolean("cloth-config2.entryProfiler");
+    private static final Reference2ObjectOpenHashMap<Class<?>, Timings> TIMINGS = new Reference2ObjectOpenHashMap<>();
+    private static final long[] START_NANOS = new long[16];
+    private static final long[] START_BYTES = new long[16];
+    private static boolean enabled = false;
+    private static int depth;
+    private static int frame;
+    private static int recordedFrames;
+    
+    private EntryRenderProfiler() {}
+    
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+    
+    public static boolean isEnabled() {
+        return enabled;
+    }
+    
+    public static void setEnabled(boolean enabled) {
+        if (EntryRenderProfiler.enabled != enabled)
+            reset();
+        EntryRenderProfiler.enabled = enabled;
+    }
+    
+    public static void reset() {
+        TIMINGS.clear();
+        depth = 0;
+        recordedFrames = 0;
+    }
+    
+    /**
+     * Starts measuring the rendering of an entry, must be followed by {@link #stop(Class)} on the render thread.
+     */
+    public static void start() {
+        if (!enabled)
+            return;
+        if (depth < START_NANOS.length) {
+            START_BYTES[depth] = FrameStatistics.getAllocatedBytes();
+            START_NANOS[depth] = System.nanoTime();
+        }
+        depth++;
+    }
+    
+    /**
+     * Stops measuring the rendering of an entry, nested measurements are included in the enclosing measurement.
+     *
+     * @param type the class of the entry
+     */
+    public static void stop(Class<?> type) {
+        if (!enabled || depth == 0 || --depth >= START_NANOS.length)
+            return;
+        long nanos = System.nanoTime() - START_NANOS[depth];
+        long bytes = START_BYTES[depth] < 0 ? 0 : FrameStatistics.getAllocatedBytes() - START_BYTES[depth];
+        Timings timings = TIMINGS.get(type);
+        if (timings == null)
+            TIMINGS.put(type, timings = new Timings(type));
+        timings.add(frame % WINDOW_FRAMES, nanos, bytes);
+    }
+    
+    /**
+     * Moves the window to the next frame, dropping the measurements of the oldest frame.
+     */
+    public static void endFrame() {
+        if (!enabled)
+            return;
+        frame++;
+        recordedFrames = Math.min(recordedFrames + 1, WINDOW_FRAMES);
+        int slot = frame % WINDOW_FRAMES;
+        for (Timings timings : TIMINGS.values())
+            timings.clear(slot);
+    }
+    
+    /**
+     * Gets the timings of every profiled entry class, the most expensive classes first.
+     */
+    public static List<Timings> getTimings() {
+        List<Timings> list = Lists.newArrayList(TIMINGS.values());
+        list.removeIf(timings -> timings.getCalls() == 0);
+        list.sort(Comparator.comparingLong(Timings::getNanos).reversed());
+        return list;
+    }
+    
+    /**
+     * Gets the number of frames covered by the timings.
+     */
+    public static int getRecordedFrames() {
+        return Math.max(1, recordedFrames);
+    }
+    
+    public static void renderOverlay(MatrixStack matrices, int screenWidth) {
+        TextRenderer textRenderer = MinecraftClient.getInstance().textRenderer;
+        List<Text> lines = Lists.newArrayList();
+        lines.add(new LiteralText("Entry render times (per frame, " + getRecordedFrames() + " frames)"));
+        List<Timings> timings = getTimings();
+        for (int i = 0; i < Math.min(OVERLAY_ROWS, timings.size()); i++) {
+            Timings entry = timings.get(i);
+            lines.add(new LiteralText(String.format("%s: %.3f ms, %.1f calls, %.1f KB", entry.getType().getSimpleName(),
+                    entry.getNanos() / 1000000.0 / getRecordedFrames(), entry.getCalls() / (double) getRecordedFrames(), entry.getAllocatedBytes() / 1024.0 / getRecordedFrames())));
+        }
+        int width = 0;
+        for (Text line : lines)
+            width = Math.max(width, textRenderer.getWidth(line));
+        int x = screenWidth - width - 4;
+        int y = 4;
+        matrices.push();
+        matrices.translate(0, 0, 500);
+        DrawableHelper.fill(matrices, x - 2, y - 2, x + width + 2, y + lines.size() * (textRenderer.fontHeight + 1) + 1, 0xC0000000);
+        for (Text line : lines) {
+            textRenderer.drawWithShadow(matrices, line, x, y, 0xFFFFFF);
+            y += textRenderer.fontHeight + 1;
+        }
+        matrices.pop();
+    }
+    
+    @Environment(EnvType.CLIENT)
+    public static final class Timings {
+        private final Class<?> type;
+        private final long[] frameNanos = new long[WINDOW_FRAMES];
+        private final int[] frameCalls = new int[WINDOW_FRAMES];
+        private final long[] frameBytes = new long[WINDOW_FRAMES];
+        private long nanos;
+        private int calls;
+        private long allocatedBytes;
+        
+        private Timings(Class<?> type) {
+            this.type = type;
+        }
+        
+        private void add(int slot, long nanos, long bytes) {
+            frameNanos[slot] += nanos;
+            frameCalls[slot]++;
+            frameBytes[slot] += bytes;
+            this.nanos += nanos;
+            this.calls++;
+            this.allocatedBytes += bytes;
+        }
+        
+        private void clear(int slot) {
+            nanos -= frameNanos[slot];
+            calls -= frameCalls[slot];
+            allocatedBytes -= frameBytes[slot];
+            frameNanos[slot] = 0;
+            frameCalls[slot] = 0;
+            frameBytes[slot] = 0;
+        }
+        
+        public Class<?> getType() {
+            return type;
+        }
+        
+        /**
+         * @return the total render time of the window in nanoseconds
+         */
+        public long getNanos() {
+            return nanos;
+        }
+        
+        public int getCalls() {
+            return calls;
+        }
+        
+        /**
+         * @return an estimate of the bytes allocated while rendering over the window
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package me.shedaniel.clothconfig2.impl;
+
+import me.shedaniel.clothconfig2.ClothConfigInitializer;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Time and animation settings sampled once per rendered config screen frame, so every animation of a frame
+ * advances by the same amount. Outside of a frame the values are read live.
+ * Animations advanced during a frame are registered with the {@link AnimationScheduler} of the rendering screen.
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public final class FrameClock {
+    private static final AnimationScheduler SHARED_SCHEDULER = new AnimationScheduler();
+    private static int depth;
+    private static long frameMillis;
+    private static EasingMethod easingMethod;
+    private static double bounceBackMultiplier;
+    private static AnimationScheduler animationScheduler;
+    
+    private FrameClock() {}
+    
+    /**
+     * Samples the clock, nested calls keep the sample and the scheduler of the outermost frame.
+     *
+     * @param scheduler the scheduler of the screen rendering the frame
+     */
+    public static void beginFrame(AnimationScheduler scheduler) {
+        if (depth++ > 0)
+            return;
+        animationScheduler = scheduler;
+        frameMillis = System.currentTimeMillis();
+        easingMethod = ClothConfigInitializer.getEasingMethod();
+        bounceBackMultiplier = ClothConfigInitializer.getBounceBackMultiplier();
+    }
+    
+    public static void endFrame() {
+        if (depth > 0 && --depth == 0)
+            animationScheduler = null;
+    }
+    
+    public static long currentTimeMillis() {
+        return depth > 0 ? frameMillis : System.currentTimeMillis();
+    }
+    
+    public static EasingMethod getEasingMethod() {
+        return depth > 0 ? easingMethod : ClothConfigInitializer.getEasingMethod();
+    }
+    
+    public static double getBounceBackMultiplier() {
+        return depth > 0 ? bounceBackMultiplier : ClothConfigInitializer.getBounceBackMultiplier();
+    }
+    
+    /**
+     * Gets the scheduler animations are registered with, widgets animating outside of a config screen frame share
+     * a scheduler nothing waits on.
+     */
+    public static AnimationScheduler getAnimationScheduler() {
+        return depth > 0 ? animationScheduler : SHARED_SCHEDULER;
+    }
+    
+    /**
+     * Gets the progress of an animation in this frame.
+     *
+     * @param start    the start time of the animation
+     * @param duration the duration of the animation
+     * @param delta    the tick delta of the frame
+     * @return the progress, between {@code 0} and {@code 1}
+     */
+    public static double progress(long start, double duration, float delta) {
+        return Math.min((currentTimeMillis() - start) / duration * delta * 3, 1);
+    }
+}
@@ -0,0 +1,178 @@
+package me.shedaniel.clothconfig2.impl;
+
+import me.shedaniel.clothconfig2.ClothConfigInitializer;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.render.Tessellator;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.function.Consumer;
+
+/**
+ * Records draw calls, scissor changes, allocations and time of every rendered config screen frame.
+ * Recording is disabled unless the {@code cloth-config2.frameStatistics} system property is set or {@link #setEnabled(boolean)} is called,
+ * frames exceeding the budgets of the {@code cloth-config2.frameStatistics.maxDrawCalls} and
+ * {@code cloth-config2.frameStatistics.maxAllocatedBytes} system properties are logged.
+ * Only the draws done by cloth config itself are counted, draws of vanilla widgets and text are not.
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public final class FrameStatistics {
+    private static boolean enabled = Boolean.getBoolean("cloth-config2.frameStatistics");
+    private static int maxDrawCalls = Integer.getInteger("cloth-config2.frameStatistics.maxDrawCalls", -1);
+    private static long maxAllocatedBytes = Long.getLong("cloth-config2.frameStatistics.maxAllocatedBytes", -1);
+    @Nullable
+    private static Consumer<Frame> frameListener;
+    @Nullable
+    private static Frame lastFrame;
+    private static int depth;
+    private static int drawCalls;
+    private static int scissorChanges;
+    private static long startBytes;
+    private static long startNanos;
+    private static boolean allocationTrackingInitialized;
+    @Nullable
+    private static com.sun.management.ThreadMXBean threadBean;
+    
+    private FrameStatistics() {}
+    
+    @Nullable
+    private static com.sun.management.ThreadMXBean getThreadBean() {
+        try {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+                ((com.sun.management.ThreadMXBean) bean).setThreadAllocatedMemoryEnabled(true);
+                return (com.sun.management.ThreadMXBean) bean;
+            }
+        } catch (Throwable ignored) {
+        }
+        return null;
+    }
+    
+    /**
+     * Gets the number of bytes allocated by the current thread so far.
+     * The first call enables allocation tracking of the JVM, so this is only called while recording.
+     *
+     * @return the allocated bytes, or {@code -1} if allocation tracking is not supported by the JVM
+     */
+    public static long getAllocatedBytes() {
+        if (!allocationTrackingInitialized) {
+            allocationTrackingInitialized = true;
+            threadBean = getThreadBean();
+        }
+        return threadBean == null ? -1 : threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+    
+    public static boolean isEnabled() {
+        return enabled;
+    }
+    
+    public static void setEnabled(boolean enabled) {
+        FrameStatistics.enabled = enabled;
+    }
+    
+    /**
+     * Sets the budgets of a frame, exceeding frames are logged and reported as over budget.
+     *
+     * @param maxDrawCalls      the maximum number of draw calls, or {@code -1} for no limit
+     * @param maxAllocatedBytes the maximum number of allocated bytes, or {@code -1} for no limit
+     */
+    public static void setBudget(int maxDrawCalls, long maxAllocatedBytes) {
+        FrameStatistics.maxDrawCalls = maxDrawCalls;
+        FrameStatistics.maxAllocatedBytes = maxAllocatedBytes;
+    }
+    
+    /**
+     * Sets the listener receiving every recorded frame, for example to fail a scripted run exceeding its budget.
+     */
+    public static void setFrameListener(@Nullable Consumer<Frame> frameListener) {
+        FrameStatistics.frameListener = frameListener;
+    }
+    
+    @Nullable
+    public static Frame getLastFrame() {
+        return lastFrame;
+    }
+    
+    public static void beginFrame() {
+        if (!enabled || depth++ > 0)
+            return;
+        drawCalls = 0;
+        scissorChanges = 0;
+        startNanos = System.nanoTime();
+        startBytes = getAllocatedBytes();
+    }
+    
+    public static void endFrame() {
+        if (depth == 0 || --depth > 0)
+            return;
+        long nanos = System.nanoTime() - startNanos;
+        long allocatedBytes = startBytes < 0 ? -1 : getAllocatedBytes() - startBytes;
+        Frame frame = new Frame(drawCalls, scissorChanges, allocatedBytes, nanos);
+        lastFrame = frame;
+        if (frame.isOverBudget())
+            ClothConfigInitializer.LOGGER.warn("[ClothConfig] Config screen frame over budget: %s", frame);
+        if (frameListener != null)
+            frameListener.accept(frame);
+    }
+    
+    /**
+     * Draws the contents of the tessellator, counting the draw call if a frame is being recorded.
+     */
+    public static void draw(Tessellator tessellator) {
+        tessellator.draw();
+        if (depth > 0)
+            drawCalls++;
+    }
+    
+    public static void countScissorChange() {
+        if (depth > 0)
+            scissorChanges++;
+    }
+    
+    @Environment(EnvType.CLIENT)
+    public static final class Frame {
+        private final int drawCalls;
+        private final int scissorChanges;
+        private final long allocatedBytes;
+        private final long nanos;
+        
+        private Frame(int drawCalls, int scissorChanges, long allocatedBytes, long nanos) {
+            this.drawCalls = drawCalls;
+            this.scissorChanges = scissorChanges;
+            this.allocatedBytes = allocatedBytes;
+            this.nanos = nanos;
+        }
+        
+        public int getDrawCalls() {
+            return drawCalls;
+        }
+        
+        public int getScissorChanges() {
+            return scissorChanges;
+        }
+        
+        /**
+         * @return the bytes allocated on the render thread during the frame, or {@code -1} if not supported by the JVM
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+        
+        public long getNanos() {
+            return nanos;
+        }
+        
+        public boolean isOverBudget() {
+            return (maxDrawCalls >= 0 && drawCalls > maxDrawCalls) || (maxAllocatedBytes >= 0 && allocatedBytes > maxAllocatedBytes);
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("%d draw calls, %d scissor changes, %d bytes allocated, %.3f ms", drawCalls, scissorChanges, allocatedBytes, nanos / 1000000.0);
+        }
+    }
+}
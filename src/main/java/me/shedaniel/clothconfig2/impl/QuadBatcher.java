@@ -0,0 +1,66 @@
+package me.shedaniel.clothconfig2.impl;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.render.BufferBuilder;
+import net.minecraft.client.render.Tessellator;
+import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.client.render.VertexFormats;
+import net.minecraft.util.math.Matrix4f;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Collects untextured quads on the render thread and draws them with a single draw call on {@link #flush()}.
+ * Quads are drawn in the order they were added, so the render state must not change until the batch is flushed,
+ * and nothing else may use the {@link Tessellator} while quads are pending.
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public final class QuadBatcher {
+    private static boolean building = false;
+    
+    private QuadBatcher() {}
+    
+    public static int color(float red, float green, float blue, float alpha) {
+        return (int) (alpha * 255.0F) << 24 | (int) (red * 255.0F) << 16 | (int) (green * 255.0F) << 8 | (int) (blue * 255.0F);
+    }
+    
+    public static void fill(@Nullable Matrix4f matrix, int x1, int y1, int x2, int y2, int color) {
+        fillGradient(matrix, x1, y1, x2, y2, color, color);
+    }
+    
+    /**
+     * Adds a quad with a vertical gradient.
+     *
+     * @param matrix      the model matrix, or {@code null} to use untransformed coordinates
+     * @param topColor    the ARGB color at {@code y1}
+     * @param bottomColor the ARGB color at {@code y2}
+     */
+    public static void fillGradient(@Nullable Matrix4f matrix, int x1, int y1, int x2, int y2, int topColor, int bottomColor) {
+        BufferBuilder buffer = Tessellator.getInstance().getBuffer();
+        if (!building) {
+            buffer.begin(7, VertexFormats.POSITION_COLOR);
+            building = true;
+        }
+        vertex(buffer, matrix, x1, y2, bottomColor);
+        vertex(buffer, matrix, x2, y2, bottomColor);
+        vertex(buffer, matrix, x2, y1, topColor);
+        vertex(buffer, matrix, x1, y1, topColor);
+    }
+    
+    private static void vertex(BufferBuilder buffer, @Nullable Matrix4f matrix, int x, int y, int color) {
+        VertexConsumer vertex = matrix == null ? buffer.vertex(x, y, 0.0D) : buffer.vertex(matrix, x, y, 0.0F);
+        vertex.color(color >> 16 & 255, color >> 8 & 255, color & 255, color >>> 24).next();
+    }
+    
+    /**
+     * Draws the pending quads, does nothing if there are none.
+     */
+    public static void flush() {
+        if (!building)
+            return;
+        building = false;
+        FrameStatistics.draw(Tessellator.getInstance());
+    }
+}
@@ -0,0 +1,215 @@
+package me.shedaniel.clothconfig2.impl;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import it.unimi.dsi.fastutil.ints.Int2IntRBTreeMap;
+import it.unimi.dsi.fastutil.ints.Int2IntSortedMap;
+import me.shedaniel.clothconfig2.api.AbstractConfigEntry;
+import me.shedaniel.clothconfig2.api.ReferenceProvider;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.text.Text;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * The flattened tree of category and entry references shown in the side bar of a config screen, in depth first order.
+ * Subtrees of single entries can be rebuilt without touching the rest of the tree, keeping the nodes of unchanged entries.
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public class ReferenceTree<N extends ReferenceTree.Node> {
+    private final NodeFactory<N> factory;
+    private final ToIntFunction<N> widthFunction;
+    private final List<N> nodes = Lists.newArrayList();
+    private final Map<AbstractConfigEntry<?>, N> entryNodes = Maps.newIdentityHashMap();
+    /**
+     * The number of nodes of each width, used to find the widest node.
+     */
+    private final Int2IntSortedMap widths = new Int2IntRBTreeMap();
+    private Map<Text, List<AbstractConfigEntry<?>>> categorizedEntries = Collections.emptyMap();
+    /**
+     * The offsets of the children of containers from their first child, valid for {@link #childOffsetsEpoch}.
+     */
+    private final Map<AbstractConfigEntry<?>, int[]> childOffsets = Maps.newIdentityHashMap();
+    private int childOffsetsEpoch;
+    
+    /**
+     * @param factory       creates the nodes of categories and entries
+     * @param widthFunction the displayed width of a node
+     */
+    public ReferenceTree(NodeFactory<N> factory, ToIntFunction<N> widthFunction) {
+        this.factory = factory;
+        this.widthFunction = widthFunction;
+    }
+    
+    public List<N> getNodes() {
+        return nodes;
+    }
+    
+    @Nullable
+    public N getNode(AbstractConfigEntry<?> entry) {
+        return entryNodes.get(entry);
+    }
+    
+    public int getMaxWidth() {
+        return widths.isEmpty() ? 0 : widths.lastIntKey();
+    }
+    
+    public void rebuild(Map<Text, List<AbstractConfigEntry<?>>> categorizedEntries) {
+        this.categorizedEntries = categorizedEntries;
+        this.nodes.clear();
+        this.entryNodes.clear();
+        this.widths.clear();
+        this.childOffsets.clear();
+        categorizedEntries.forEach((category, entries) -> {
+            this.nodes.add(factory.createCategoryNode(category));
+            for (int i = 0; i < entries.size(); i++)
+                build(nodes, Collections.emptyMap(), null, entries.get(i), i, 1);
+        });
+        for (N node : nodes)
+            track(node);
+    }
+    
+    /**
+     * Rebuilds the nodes of an entry and its children, keeping the nodes of every other entry.
+     * The whole tree is rebuilt if the entry has no node yet.
+     */
+    public void rebuild(AbstractConfigEntry<?> entry) {
+        N node = entryNodes.get(entry);
+        if (node == null) {
+            rebuild(categorizedEntries);
+            return;
+        }
+        int start = nodes.indexOf(node);
+        int end = start + 1;
+        while (end < nodes.size() && nodes.get(end).getIndent() > node.getIndent())
+            end++;
+        List<N> subtree = nodes.subList(start, end);
+        Map<AbstractConfigEntry<?>, N> reusable = Maps.newIdentityHashMap();
+        for (N old : subtree) {
+            untrack(old);
+            if (old.getEntry() != null)
+                reusable.put(old.getEntry(), old);
+        }
+        subtree.clear();
+        List<N> rebuilt = Lists.newArrayList();
+        build(rebuilt, reusable, node.getParent(), entry, node.getChildIndex(), node.getIndent());
+        childOffsets.remove(entry);
+        nodes.addAll(start, rebuilt);
+        for (N newNode : rebuilt)
+            track(newNode);
+    }
+    
+    private void build(List<N> nodes, Map<AbstractConfigEntry<?>, N> reusable, @Nullable AbstractConfigEntry<?> parent, AbstractConfigEntry<?> entry, int childIndex, int indent) {
+        List<ReferenceProvider<?>> children = entry.getReferenceProviderEntries();
+        if (children != null) {
+            N node = reusable.get(entry);
+            if (node == null || node.getIndent() != indent)
+                node = factory.createEntryNode(entry, indent);
+            node.parent = parent;
+            node.childIndex = childIndex;
+            nodes.add(node);
+            for (int i = 0; i < children.size(); i++)
+                build(nodes, reusable, entry, children.get(i).provideReferenceEntry(), i, indent + 1);
+        }
+    }
+    
+    /**
+     * Gets the offset of a child from the first child of its parent entry, summing the heights of the preceding
+     * reference provider entries. The sums of a parent are reused until the layout epoch changes.
+     *
+     * @param node        the node of the child
+     * @param layoutEpoch the layout epoch of the list showing the entries
+     * @return the offset of the child, or {@code 0} for top level entries
+     */
+    public int getChildOffset(N node, int layoutEpoch) {
+        AbstractConfigEntry<?> parent = node.getParent();
+        List<ReferenceProvider<?>> children = parent == null ? null : parent.getReferenceProviderEntries();
+        if (children == null)
+            return 0;
+        if (childOffsetsEpoch != layoutEpoch) {
+            childOffsetsEpoch = layoutEpoch;
+            childOffsets.clear();
+        }
+        int[] offsets = childOffsets.get(parent);
+        if (offsets == null || offsets.length != children.size() + 1) {
+            offsets = new int[children.size() + 1];
+            for (int i = 0; i < children.size(); i++)
+                offsets[i + 1] = offsets[i] + children.get(i).provideReferenceEntry().getItemHeight();
+            childOffsets.put(parent, offsets);
+        }
+        return offsets[Math.min(node.getChildIndex(), children.size())];
+    }
+    
+    private void track(N node) {
+        if (node.getEntry() != null)
+            entryNodes.put(node.getEntry(), node);
+        int width = widthFunction.applyAsInt(node);
+        widths.put(width, widths.get(width) + 1);
+    }
+    
+    private void untrack(N node) {
+        if (node.getEntry() != null)
+            entryNodes.remove(node.getEntry(), node);
+        int width = widthFunction.applyAsInt(node);
+        int count = widths.get(width);
+        if (count <= 1)
+            widths.remove(width);
+        else
+            widths.put(width, count - 1);
+    }
+    
+    public interface NodeFactory<N extends Node> {
+        N createCategoryNode(Text category);
+        
+        N createEntryNode(AbstractConfigEntry<?> entry, int indent);
+    }
+    
+    public static class Node {
+        @Nullable
+        private final AbstractConfigEntry<?> entry;
+        private final int indent;
+        @Nullable
+        private AbstractConfigEntry<?> parent;
+        private int childIndex;
+        
+        /**
+         * @param entry  the entry of this node, {@code null} for category nodes
+         * @param indent the depth of this node, {@code 0} for category nodes
+         */
+        public Node(@Nullable AbstractConfigEntry<?> entry, int indent) {
+            this.entry = entry;
+            this.indent = indent;
+        }
+        
+        @Nullable
+        public AbstractConfigEntry<?> getEntry() {
+            return entry;
+        }
+        
+        public int getIndent() {
+            return indent;
+        }
+        
+        /**
+         * @return the entry of the parent node, or {@code null} for top level entries
+         */
+        @Nullable
+        public AbstractConfigEntry<?> getParent() {
+            return parent;
+        }
+        
+        /**
+         * @return the index of the entry in the reference provider entries of its parent
+         */
+        public int getChildIndex() {
+            return childIndex;
+        }
+    }
+}
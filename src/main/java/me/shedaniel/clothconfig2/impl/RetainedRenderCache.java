@@ -0,0 +1,147 @@
+package me.shedaniel.clothconfig2.impl;
+
+import com.google.common.collect.Lists;
+import com.mojang.blaze3d.systems.RenderSystem;
+import me.shedaniel.clothconfig2.api.Tooltip;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.gl.Framebuffer;
+import net.minecraft.client.render.BufferBuilder;
+import net.minecraft.client.render.Tessellator;
+import net.minecraft.client.render.VertexFormats;
+import net.minecraft.client.util.Window;
+import net.minecraft.util.math.Matrix4f;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Retains a rendered layer of a config screen in an offscreen framebuffer, so idle frames only draw a single textured quad.
+ * The cache stays valid until it is invalidated or the mouse position, scroll position or window size changes,
+ * tooltips added while capturing are replayed on every cached frame.
+ * Retained rendering is disabled unless the {@code cloth-config2.retainedRendering} system property is set or {@link #setEnabled(boolean)} is called.
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public class RetainedRenderCache {
+    private static boolean enabled = Boolean.getBoolean("cloth-config2.retainedRendering");
+    private final List<Tooltip> tooltips = Lists.newArrayList();
+    @Nullable
+    private Framebuffer framebuffer;
+    private boolean valid;
+    private boolean capturing;
+    private int mouseX;
+    private int mouseY;
+    private double scroll;
+    
+    public static boolean isEnabled() {
+        return enabled;
+    }
+    
+    public static void setEnabled(boolean enabled) {
+        RetainedRenderCache.enabled = enabled;
+    }
+    
+    public void invalidate() {
+        this.valid = false;
+    }
+    
+    /**
+     * @return whether the retained layer can be drawn instead of rendering it again
+     */
+    public boolean isValid(int mouseX, int mouseY, double scroll) {
+        if (!valid || framebuffer == null)
+            return false;
+        Window window = MinecraftClient.getInstance().getWindow();
+        return this.mouseX == mouseX && this.mouseY == mouseY && this.scroll == scroll
+               && framebuffer.viewportWidth == window.getFramebufferWidth() && framebuffer.viewportHeight == window.getFramebufferHeight();
+    }
+    
+    /**
+     * Redirects rendering into the offscreen framebuffer until {@link #endCapture()} is called.
+     */
+    public void beginCapture(int mouseX, int mouseY, double scroll) {
+        Window window = MinecraftClient.getInstance().getWindow();
+        int width = window.getFramebufferWidth();
+        int height = window.getFramebufferHeight();
+        if (framebuffer == null)
+            framebuffer = new Framebuffer(width, height, true, MinecraftClient.IS_SYSTEM_MAC);
+        else if (framebuffer.viewportWidth != width || framebuffer.viewportHeight != height)
+            framebuffer.resize(width, height, MinecraftClient.IS_SYSTEM_MAC);
+        framebuffer.setClearColor(0, 0, 0, 0);
+        framebuffer.clear(MinecraftClient.IS_SYSTEM_MAC);
+        framebuffer.beginWrite(true);
+        this.mouseX = mouseX;
+        this.mouseY = mouseY;
+        this.scroll = scroll;
+        this.tooltips.clear();
+        this.capturing = true;
+    }
+    
+    /**
+     * Restores rendering into the main framebuffer, the captured layer is then drawn with {@link #draw(Matrix4f)}.
+     */
+    public void endCapture() {
+        this.capturing = false;
+        this.valid = true;
+        MinecraftClient.getInstance().getFramebuffer().beginWrite(true);
+    }
+    
+    public boolean isCapturing() {
+        return capturing;
+    }
+    
+    public void addTooltip(Tooltip tooltip) {
+        if (capturing)
+            tooltips.add(tooltip);
+    }
+    
+    public List<Tooltip> getTooltips() {
+        return tooltips;
+    }
+    
+    /**
+     * Draws the retained layer over the whole screen.
+     */
+    @SuppressWarnings("deprecation")
+    public void draw(Matrix4f matrix) {
+        if (framebuffer == null)
+            return;
+        double scaleFactor = MinecraftClient.getInstance().getWindow().getScaleFactor();
+        float width = (float) (framebuffer.viewportWidth / scaleFactor);
+        float height = (float) (framebuffer.viewportHeight / scaleFactor);
+        float maxU = framebuffer.viewportWidth / (float) framebuffer.textureWidth;
+        float maxV = framebuffer.viewportHeight / (float) framebuffer.textureHeight;
+        RenderSystem.disableDepthTest();
+        RenderSystem.disableBlend();
+        RenderSystem.disableAlphaTest();
+        RenderSystem.enableTexture();
+        RenderSystem.color4f(1.0F, 1.0F, 1.0F, 1.0F);
+        framebuffer.beginRead();
+        Tessellator tessellator = Tessellator.getInstance();
+        BufferBuilder buffer = tessellator.getBuffer();
+        buffer.begin(7, VertexFormats.POSITION_TEXTURE);
+        // Framebuffer textures start at the bottom left corner
+        buffer.vertex(matrix, 0, height, 0).texture(0, 0).next();
+        buffer.vertex(matrix, width, height, 0).texture(maxU, 0).next();
+        buffer.vertex(matrix, width, 0, 0).texture(maxU, maxV).next();
+        buffer.vertex(matrix, 0, 0, 0).texture(0, maxV).next();
+        FrameStatistics.draw(tessellator);
+        framebuffer.endRead();
+        RenderSystem.enableAlphaTest();
+    }
+    
+    /**
+     * Releases the offscreen framebuffer, it is created again by the next capture.
+     */
+    public void close() {
+        if (framebuffer != null)
+            framebuffer.delete();
+        framebuffer = null;
+        valid = false;
+        capturing = false;
+        tooltips.clear();
+    }
+}
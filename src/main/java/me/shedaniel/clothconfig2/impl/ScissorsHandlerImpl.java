@@ -13,6 +13,7 @@ import net.minecraft.client.util.Window;
 import net.minecraft.util.math.MathHelper;
 import org.lwjgl.opengl.GL11;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -37,49 +38,111 @@ public final class ScissorsHandlerImpl implements ScissorsHandler {
         });
     }
     
-    private final List<Rectangle> scissorsAreas;
+    private static final int INITIAL_CAPACITY = 8;
+    // Pushed areas and the intersection of the areas up to each depth, as x, y, width, height quadruples
+    private int[] areas = new int[INITIAL_CAPACITY * 4];
+    private int[] intersections = new int[INITIAL_CAPACITY * 4];
+    private int size = 0;
+    private boolean applied = false;
+    private int appliedX, appliedY, appliedWidth, appliedHeight;
     
     public ScissorsHandlerImpl() {
-        this.scissorsAreas = Lists.newArrayList();
     }
     
     @Override
     public void clearScissors() {
-        scissorsAreas.clear();
+        size = 0;
         applyScissors();
     }
     
     @Override
     public List<Rectangle> getScissorsAreas() {
-        return Collections.unmodifiableList(scissorsAreas);
+        List<Rectangle> list = Lists.newArrayListWithCapacity(size);
+        for (int i = 0; i < size; i++)
+            list.add(new Rectangle(areas[i * 4], areas[i * 4 + 1], areas[i * 4 + 2], areas[i * 4 + 3]));
+        return Collections.unmodifiableList(list);
     }
     
     @Override
     public void scissor(Rectangle rectangle) {
-        scissorsAreas.add(rectangle);
-        applyScissors();
+        scissor(rectangle.x, rectangle.y, rectangle.width, rectangle.height);
+    }
+    
+    @Override
+    public void scissor(int x, int y, int width, int height) {
+        if (areas.length < (size + 1) * 4) {
+            areas = Arrays.copyOf(areas, areas.length * 2);
+            intersections = Arrays.copyOf(intersections, intersections.length * 2);
+        }
+        int i = size * 4;
+        areas[i] = x;
+        areas[i + 1] = y;
+        areas[i + 2] = width;
+        areas[i + 3] = height;
+        if (size == 0) {
+            intersections[i] = x;
+            intersections[i + 1] = y;
+            intersections[i + 2] = width;
+            intersections[i + 3] = height;
+        } else {
+            // Same as Rectangle#intersection, including its negative sizes for disjoint areas
+            int previous = i - 4;
+            int x1 = Math.max(intersections[previous], x);
+            int y1 = Math.max(intersections[previous + 1], y);
+            long x2 = Math.min((long) intersections[previous] + intersections[previous + 2], (long) x + width);
+            long y2 = Math.min((long) intersections[previous + 1] + intersections[previous + 3], (long) y + height);
+            intersections[i] = x1;
+            intersections[i + 1] = y1;
+            intersections[i + 2] = (int) Math.max(x2 - x1, Integer.MIN_VALUE);
+            intersections[i + 3] = (int) Math.max(y2 - y1, Integer.MIN_VALUE);
+        }
+        size++;
+        updateScissors();
     }
     
     @Override
     public void removeLastScissor() {
-        if (!scissorsAreas.isEmpty())
-            scissorsAreas.remove(scissorsAreas.size() - 1);
-        applyScissors();
+        if (size > 0)
+            size--;
+        updateScissors();
     }
     
     @Override
     public void applyScissors() {
-        if (!scissorsAreas.isEmpty()) {
-            Rectangle r = scissorsAreas.get(0).clone();
-            for (int i = 1; i < scissorsAreas.size(); i++) {
-                r.setBounds(r.intersection(scissorsAreas.get(i)));
-            }
-            r.setBounds(Math.min(r.x, r.x + r.width), Math.min(r.y, r.y + r.height), Math.abs(r.width), Math.abs(r.height));
+        applied = false;
+        updateScissors();
+    }
+    
+    /**
+     * Applies the intersection of the current areas, skipping the GL calls if the scissor state would not change.
+     * The scissor state may be changed by others while the stack is empty, so it is always applied again after that.
+     */
+    private void updateScissors() {
+        if (size > 0) {
+            int i = (size - 1) * 4;
+            int x = intersections[i], y = intersections[i + 1], width = intersections[i + 2], height = intersections[i + 3];
+            int minX = Math.min(x, x + width), minY = Math.min(y, y + height);
+            width = Math.abs(width);
+            height = Math.abs(height);
             Window window = MinecraftClient.getInstance().getWindow();
             double scaleFactor = window.getScaleFactor();
-            GL11.glEnable(GL11.GL_SCISSOR_TEST);
-            GL11.glScissor((int) (r.x * scaleFactor), (int) ((window.getScaledHeight() - r.height - r.y) * scaleFactor), (int) (r.width * scaleFactor), (int) (r.height * scaleFactor));
-        } else
+            int glX = (int) (minX * scaleFactor), glY = (int) ((window.getScaledHeight() - height - minY) * scaleFactor);
+            int glWidth = (int) (width * scaleFactor), glHeight = (int) (height * scaleFactor);
+            if (applied && appliedX == glX && appliedY == glY && appliedWidth == glWidth && appliedHeight == glHeight)
+                return;
+            FrameStatistics.countScissorChange();
+            if (!applied)
+                GL11.glEnable(GL11.GL_SCISSOR_TEST);
+            GL11.glScissor(glX, glY, glWidth, glHeight);
+            applied = true;
+            appliedX = glX;
+            appliedY = glY;
+            appliedWidth = glWidth;
+            appliedHeight = glHeight;
+        } else {
+            FrameStatistics.countScissorChange();
             GL11.glDisable(GL11.GL_SCISSOR_TEST);
+            applied = false;
+        }
     }
 }
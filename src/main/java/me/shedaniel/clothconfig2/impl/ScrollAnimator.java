@@ -0,0 +1,102 @@
+package me.shedaniel.clothconfig2.impl;
+
+import me.shedaniel.clothconfig2.api.ScrollingContainer;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Advances smooth scrolling positions without allocating, the position and target of a step are kept in the animator
+ * instead of being passed around in arrays. Every scrolling container owns its animator, so steps of different
+ * containers never share state.
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public final class ScrollAnimator {
+    public static final double SETTLE_EPSILON = 1e-3;
+    private double position;
+    private double target;
+    
+    public ScrollAnimator set(double position, double target) {
+        this.position = position;
+        this.target = target;
+        return this;
+    }
+    
+    /**
+     * Advances the position of an animation if it has not settled yet, the animation is registered with the
+     * {@link AnimationScheduler} of the current frame until the position is within {@link #SETTLE_EPSILON} of a target inside of the scroll bounds.
+     * Settled animations do not step at all.
+     *
+     * @param animation the owner of the animation
+     * @param maxScroll the maximum scroll position
+     * @param delta     the tick delta of the frame
+     * @param start     the start time of the scroll
+     * @param duration  the duration of the scroll
+     * @return whether the animation is still moving
+     */
+    public boolean update(Object animation, double maxScroll, float delta, long start, double duration) {
+        AnimationScheduler scheduler = FrameClock.getAnimationScheduler();
+        if (position == target && isInBounds(maxScroll)) {
+            scheduler.settle(animation);
+            return false;
+        }
+        step(maxScroll, delta, start, duration);
+        // Bouncing back only approaches the bounds, snap onto them once close enough
+        if (target < 0 && target > -SETTLE_EPSILON)
+            target = 0;
+        else if (target > maxScroll && target < maxScroll + SETTLE_EPSILON)
+            target = maxScroll;
+        if (isInBounds(maxScroll) && Math.abs(position - target) < SETTLE_EPSILON) {
+            position = target;
+            scheduler.settle(animation);
+            return false;
+        }
+        scheduler.animate(animation);
+        return true;
+    }
+    
+    private boolean isInBounds(double maxScroll) {
+        return target >= 0 && target <= maxScroll;
+    }
+    
+    public ScrollAnimator step(double maxScroll, float delta, long start, double duration) {
+        return step(maxScroll, delta, start, duration, FrameClock.getBounceBackMultiplier(), FrameClock.getEasingMethod());
+    }
+    
+    public ScrollAnimator step(double maxScroll, float delta, long start, double duration, double bounceBackMultiplier, EasingMethod easingMethod) {
+        target = stepTarget(target, maxScroll, delta, bounceBackMultiplier);
+        position = ScrollingContainer.ease(position, target, FrameClock.progress(start, duration, delta), easingMethod);
+        return this;
+    }
+    
+    /**
+     * Clamps a scroll target to the scroll bounds and its extension, bouncing it back towards the bounds.
+     *
+     * @param target               the scroll target
+     * @param maxScroll            the maximum scroll position
+     * @param delta                the tick delta of the frame
+     * @param bounceBackMultiplier the bounce back multiplier, negative to disable bouncing
+     * @return the new scroll target
+     */
+    public static double stepTarget(double target, double maxScroll, float delta, double bounceBackMultiplier) {
+        if (bounceBackMultiplier >= 0) {
+            target = ScrollingContainer.clampExtension(target, maxScroll);
+            if (target < 0) {
+                target -= target * (1 - bounceBackMultiplier) * delta / 3;
+            } else if (target > maxScroll) {
+                target = (target - maxScroll) * (1 - (1 - bounceBackMultiplier) * delta / 3) + maxScroll;
+            }
+            return target;
+        }
+        return ScrollingContainer.clampExtension(target, maxScroll, 0);
+    }
+    
+    public double getPosition() {
+        return position;
+    }
+    
+    public double getTarget() {
+        return target;
+    }
+}
@@ -0,0 +1,55 @@
+package me.shedaniel.clothconfig2.impl;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.font.TextRenderer;
+import net.minecraft.text.StringRenderable;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Remembers the lines of the last wrapped text, the text is only wrapped again if the text instance or the width changes.
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public final class WrappedTextCache {
+    @Nullable
+    private StringRenderable text;
+    private int width = -1;
+    @Nullable
+    private TextRenderer textRenderer;
+    private List<StringRenderable> lines = Collections.emptyList();
+    private int[] lineWidths = new int[0];
+    
+    /**
+     * Gets the lines of the text wrapped to the width.
+     *
+     * @param text  the text to wrap
+     * @param width the maximum width of a line
+     * @return the wrapped lines
+     */
+    public List<StringRenderable> getLines(StringRenderable text, int width) {
+        TextRenderer textRenderer = MinecraftClient.getInstance().textRenderer;
+        if (this.text != text || this.width != width || this.textRenderer != textRenderer) {
+            this.text = text;
+            this.width = width;
+            this.textRenderer = textRenderer;
+            this.lines = textRenderer.wrapStringToWidthAsList(text, width);
+            this.lineWidths = new int[lines.size()];
+            for (int i = 0; i < lineWidths.length; i++)
+                lineWidths[i] = textRenderer.getWidth(lines.get(i));
+        }
+        return lines;
+    }
+    
+    /**
+     * Gets the width of a line of the text last passed to {@link #getLines(StringRenderable, int)}.
+     */
+    public int getLineWidth(int index) {
+        return lineWidths[index];
+    }
+}
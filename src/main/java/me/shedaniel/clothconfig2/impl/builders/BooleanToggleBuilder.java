@@ -30,6 +30,24 @@ public class BooleanToggleBuilder extends FieldBuilder<Boolean, BooleanListEntry
         return this;
     }
     
+    @Override
+    public BooleanToggleBuilder setErrorSupplierPure(boolean errorSupplierPure) {
+        super.setErrorSupplierPure(errorSupplierPure);
+        return this;
+    }
+    
+    @Override
+    public BooleanToggleBuilder setAsyncErrorSupplier(Function<Boolean, Optional<Text>> asyncErrorSupplier) {
+        super.setAsyncErrorSupplier(asyncErrorSupplier);
+        return this;
+    }
+    
+    @Override
+    public BooleanToggleBuilder setAsyncErrorSupplier(Function<Boolean, Optional<Text>> asyncErrorSupplier, long debounceMillis) {
+        super.setAsyncErrorSupplier(asyncErrorSupplier, debounceMillis);
+        return this;
+    }
+    
     public BooleanToggleBuilder requireRestart() {
         requireRestart(true);
         return this;
@@ -94,7 +112,7 @@ public class BooleanToggleBuilder extends FieldBuilder<Boolean, BooleanListEntry
         entry.setTooltipSupplier(() -> tooltipSupplier.apply(entry.getValue()));
         if (errorSupplier != null)
             entry.setErrorSupplier(() -> errorSupplier.apply(entry.getValue()));
-        return entry;
+        return finishBuilding(entry);
     }
     
 }
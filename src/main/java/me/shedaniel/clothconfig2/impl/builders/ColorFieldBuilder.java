@@ -34,6 +34,24 @@ public class ColorFieldBuilder extends FieldBuilder<String, ColorEntry> {
         return this;
     }
     
+    @Override
+    public ColorFieldBuilder setErrorSupplierPure(boolean errorSupplierPure) {
+        super.setErrorSupplierPure(errorSupplierPure);
+        return this;
+    }
+    
+    @Override
+    public ColorFieldBuilder setAsyncErrorSupplier(Function<String, Optional<Text>> asyncErrorSupplier) {
+        super.setAsyncErrorSupplier(asyncErrorSupplier);
+        return this;
+    }
+    
+    @Override
+    public ColorFieldBuilder setAsyncErrorSupplier(Function<String, Optional<Text>> asyncErrorSupplier, long debounceMillis) {
+        super.setAsyncErrorSupplier(asyncErrorSupplier, debounceMillis);
+        return this;
+    }
+    
     public ColorFieldBuilder requireRestart() {
         requireRestart(true);
         return this;
@@ -116,7 +134,7 @@ public class ColorFieldBuilder extends FieldBuilder<String, ColorEntry> {
         entry.setTooltipSupplier(() -> tooltipSupplier.apply(entry.getValue()));
         if (errorSupplier != null)
             entry.setErrorSupplier(() -> errorSupplier.apply(entry.getValue()));
-        return entry;
+        return finishBuilding(entry);
     }
     
 }
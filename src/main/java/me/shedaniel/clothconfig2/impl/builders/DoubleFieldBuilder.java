@@ -29,6 +29,24 @@ public class DoubleFieldBuilder extends FieldBuilder<Double, DoubleListEntry> {
         return this;
     }
     
+    @Override
+    public DoubleFieldBuilder setErrorSupplierPure(boolean errorSupplierPure) {
+        super.setErrorSupplierPure(errorSupplierPure);
+        return this;
+    }
+    
+    @Override
+    public DoubleFieldBuilder setAsyncErrorSupplier(Function<Double, Optional<Text>> asyncErrorSupplier) {
+        super.setAsyncErrorSupplier(asyncErrorSupplier);
+        return this;
+    }
+    
+    @Override
+    public DoubleFieldBuilder setAsyncErrorSupplier(Function<Double, Optional<Text>> asyncErrorSupplier, long debounceMillis) {
+        super.setAsyncErrorSupplier(asyncErrorSupplier, debounceMillis);
+        return this;
+    }
+    
     public DoubleFieldBuilder requireRestart() {
         requireRestart(true);
         return this;
@@ -100,7 +118,7 @@ public class DoubleFieldBuilder extends FieldBuilder<Double, DoubleListEntry> {
         entry.setTooltipSupplier(() -> tooltipSupplier.apply(entry.getValue()));
         if (errorSupplier != null)
             entry.setErrorSupplier(() -> errorSupplier.apply(entry.getValue()));
-        return entry;
+        return finishBuilding(entry);
     }
     
 }
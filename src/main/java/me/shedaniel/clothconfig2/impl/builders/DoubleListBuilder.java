@@ -47,6 +47,24 @@ public class DoubleListBuilder extends FieldBuilder<List<Double>, DoubleListList
         return this;
     }
     
+    @Override
+    public DoubleListBuilder setErrorSupplierPure(boolean errorSupplierPure) {
+        super.setErrorSupplierPure(errorSupplierPure);
+        return this;
+    }
+    
+    @Override
+    public DoubleListBuilder setAsyncErrorSupplier(Function<List<Double>, Optional<Text>> asyncErrorSupplier) {
+        super.setAsyncErrorSupplier(asyncErrorSupplier);
+        return this;
+    }
+    
+    @Override
+    public DoubleListBuilder setAsyncErrorSupplier(Function<List<Double>, Optional<Text>> asyncErrorSupplier, long debounceMillis) {
+        super.setAsyncErrorSupplier(asyncErrorSupplier, debounceMillis);
+        return this;
+    }
+    
     public DoubleListBuilder setDeleteButtonEnabled(boolean deleteButtonEnabled) {
         this.deleteButtonEnabled = deleteButtonEnabled;
         return this;
@@ -159,7 +177,7 @@ public class DoubleListBuilder extends FieldBuilder<List<Double>, DoubleListList
         entry.setRemoveTooltip(removeTooltip);
         if (errorSupplier != null)
             entry.setErrorSupplier(() -> errorSupplier.apply(entry.getValue()));
-        return entry;
+        return finishBuilding(entry);
     }
     
 }
@@ -19,6 +19,7 @@ import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.registry.Registry;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
 import java.util.Objects;
@@ -35,6 +36,7 @@ public class DropdownMenuBuilder<T> extends FieldBuilder<T, DropdownBoxEntry<T>>
     protected Consumer<T> saveConsumer = null;
     protected Iterable<T> selections = Collections.emptyList();
     protected boolean suggestionMode = true;
+    protected boolean asyncSearch = false;
     
     public DropdownMenuBuilder(Text resetButtonKey, Text fieldNameKey, SelectionTopCellElement<T> topCellElement, SelectionCellCreator<T> cellCreator) {
         super(resetButtonKey, fieldNameKey);
@@ -92,6 +94,24 @@ public class DropdownMenuBuilder<T> extends FieldBuilder<T, DropdownBoxEntry<T>>
         return this;
     }
     
+    @Override
+    public DropdownMenuBuilder<T> setErrorSupplierPure(boolean errorSupplierPure) {
+        super.setErrorSupplierPure(errorSupplierPure);
+        return this;
+    }
+    
+    @Override
+    public DropdownMenuBuilder<T> setAsyncErrorSupplier(Function<T, Optional<Text>> asyncErrorSupplier) {
+        super.setAsyncErrorSupplier(asyncErrorSupplier);
+        return this;
+    }
+    
+    @Override
+    public DropdownMenuBuilder<T> setAsyncErrorSupplier(Function<T, Optional<Text>> asyncErrorSupplier, long debounceMillis) {
+        super.setAsyncErrorSupplier(asyncErrorSupplier, debounceMillis);
+        return this;
+    }
+    
     public DropdownMenuBuilder<T> setSuggestionMode(boolean suggestionMode) {
         this.suggestionMode = suggestionMode;
         return this;
@@ -101,6 +121,15 @@ public class DropdownMenuBuilder<T> extends FieldBuilder<T, DropdownBoxEntry<T>>
         return suggestionMode;
     }
     
+    public DropdownMenuBuilder<T> setAsyncSearch(boolean asyncSearch) {
+        this.asyncSearch = asyncSearch;
+        return this;
+    }
+    
+    public boolean isAsyncSearch() {
+        return asyncSearch;
+    }
+    
     @NotNull
     @Override
     public DropdownBoxEntry<T> build() {
@@ -109,7 +138,8 @@ public class DropdownMenuBuilder<T> extends FieldBuilder<T, DropdownBoxEntry<T>>
         if (errorSupplier != null)
             entry.setErrorSupplier(() -> errorSupplier.apply(entry.getValue()));
         entry.setSuggestionMode(suggestionMode);
-        return entry;
+        entry.setAsyncSearch(asyncSearch);
+        return finishBuilding(entry);
     }
     
     public static class TopCellElementBuilder {
@@ -351,43 +381,7 @@ public class DropdownMenuBuilder<T> extends FieldBuilder<T, DropdownBoxEntry<T>>
         }
         
         public static SelectionCellCreator<Identifier> ofItemIdentifier(int cellHeight, int cellWidth, int maxItems) {
-            return new DefaultSelectionCellCreator<Identifier>() {
-                @Override
-                public DropdownBoxEntry.SelectionCellElement<Identifier> create(Identifier selection) {
-                    ItemStack s = new ItemStack(Registry.ITEM.get(selection));
-                    return new DropdownBoxEntry.DefaultSelectionCellElement<Identifier>(selection, toTextFunction) {
-                        @Override
-                        public void render(MatrixStack matrices, int mouseX, int mouseY, int x, int y, int width, int height, float delta) {
-                            rendering = true;
-                            this.x = x;
-                            this.y = y;
-                            this.width = width;
-                            this.height = height;
-                            boolean b = mouseX >= x && mouseX <= x + width && mouseY >= y && mouseY <= y + height;
-                            if (b)
-                                fill(matrices, x + 1, y + 1, x + width - 1, y + height - 1, -15132391);
-                            MinecraftClient.getInstance().textRenderer.drawWithShadow(matrices, toTextFunction.apply(r), x + 6 + 18, y + 6, b ? 16777215 : 8947848);
-                            ItemRenderer itemRenderer = MinecraftClient.getInstance().getItemRenderer();
-                            itemRenderer.renderGuiItemIcon(s, x + 4, y + 2);
-                        }
-                    };
-                }
-                
-                @Override
-                public int getCellHeight() {
-                    return cellHeight;
-                }
-                
-                @Override
-                public int getCellWidth() {
-                    return cellWidth;
-                }
-                
-                @Override
-                public int getDropBoxMaxHeight() {
-                    return getCellHeight() * maxItems;
-                }
-            };
+            return new ItemStackSelectionCellCreator<>(cellHeight, cellWidth, maxItems, r -> new LiteralText(r.toString()), selection -> new ItemStack(Registry.ITEM.get(selection)));
         }
         
         
@@ -400,43 +394,7 @@ public class DropdownMenuBuilder<T> extends FieldBuilder<T, DropdownBoxEntry<T>>
         }
         
         public static SelectionCellCreator<Identifier> ofBlockIdentifier(int cellHeight, int cellWidth, int maxItems) {
-            return new DefaultSelectionCellCreator<Identifier>() {
-                @Override
-                public DropdownBoxEntry.SelectionCellElement<Identifier> create(Identifier selection) {
-                    ItemStack s = new ItemStack(Registry.BLOCK.get(selection));
-                    return new DropdownBoxEntry.DefaultSelectionCellElement<Identifier>(selection, toTextFunction) {
-                        @Override
-                        public void render(MatrixStack matrices, int mouseX, int mouseY, int x, int y, int width, int height, float delta) {
-                            rendering = true;
-                            this.x = x;
-                            this.y = y;
-                            this.width = width;
-                            this.height = height;
-                            boolean b = mouseX >= x && mouseX <= x + width && mouseY >= y && mouseY <= y + height;
-                            if (b)
-                                fill(matrices, x + 1, y + 1, x + width - 1, y + height - 1, -15132391);
-                            MinecraftClient.getInstance().textRenderer.drawWithShadow(matrices, toTextFunction.apply(r), x + 6 + 18, y + 6, b ? 16777215 : 8947848);
-                            ItemRenderer itemRenderer = MinecraftClient.getInstance().getItemRenderer();
-                            itemRenderer.renderGuiItemIcon(s, x + 4, y + 2);
-                        }
-                    };
-                }
-                
-                @Override
-                public int getCellHeight() {
-                    return cellHeight;
-                }
-                
-                @Override
-                public int getCellWidth() {
-                    return cellWidth;
-                }
-                
-                @Override
-                public int getDropBoxMaxHeight() {
-                    return getCellHeight() * maxItems;
-                }
-            };
+            return new ItemStackSelectionCellCreator<>(cellHeight, cellWidth, maxItems, r -> new LiteralText(r.toString()), selection -> new ItemStack(Registry.BLOCK.get(selection)));
         }
         
         public static SelectionCellCreator<Item> ofItemObject() {
@@ -448,43 +406,7 @@ public class DropdownMenuBuilder<T> extends FieldBuilder<T, DropdownBoxEntry<T>>
         }
         
         public static SelectionCellCreator<Item> ofItemObject(int cellHeight, int cellWidth, int maxItems) {
-            return new DefaultSelectionCellCreator<Item>(i -> new LiteralText(Registry.ITEM.getId(i).toString())) {
-                @Override
-                public DropdownBoxEntry.SelectionCellElement<Item> create(Item selection) {
-                    ItemStack s = new ItemStack(selection);
-                    return new DropdownBoxEntry.DefaultSelectionCellElement<Item>(selection, toTextFunction) {
-                        @Override
-                        public void render(MatrixStack matrices, int mouseX, int mouseY, int x, int y, int width, int height, float delta) {
-                            rendering = true;
-                            this.x = x;
-                            this.y = y;
-                            this.width = width;
-                            this.height = height;
-                            boolean b = mouseX >= x && mouseX <= x + width && mouseY >= y && mouseY <= y + height;
-                            if (b)
-                                fill(matrices, x + 1, y + 1, x + width - 1, y + height - 1, -15132391);
-                            MinecraftClient.getInstance().textRenderer.drawWithShadow(matrices, toTextFunction.apply(r), x + 6 + 18, y + 6, b ? 16777215 : 8947848);
-                            ItemRenderer itemRenderer = MinecraftClient.getInstance().getItemRenderer();
-                            itemRenderer.renderGuiItemIcon(s, x + 4, y + 2);
-                        }
-                    };
-                }
-                
-                @Override
-                public int getCellHeight() {
-                    return cellHeight;
-                }
-                
-                @Override
-                public int getCellWidth() {
-                    return cellWidth;
-                }
-                
-                @Override
-                public int getDropBoxMaxHeight() {
-                    return getCellHeight() * maxItems;
-                }
-            };
+            return new ItemStackSelectionCellCreator<>(cellHeight, cellWidth, maxItems, i -> new LiteralText(Registry.ITEM.getId(i).toString()), ItemStack::new);
         }
         
         public static SelectionCellCreator<Block> ofBlockObject() {
@@ -496,43 +418,96 @@ public class DropdownMenuBuilder<T> extends FieldBuilder<T, DropdownBoxEntry<T>>
         }
         
         public static SelectionCellCreator<Block> ofBlockObject(int cellHeight, int cellWidth, int maxItems) {
-            return new DefaultSelectionCellCreator<Block>(i -> new LiteralText(Registry.BLOCK.getId(i).toString())) {
-                @Override
-                public DropdownBoxEntry.SelectionCellElement<Block> create(Block selection) {
-                    ItemStack s = new ItemStack(selection);
-                    return new DropdownBoxEntry.DefaultSelectionCellElement<Block>(selection, toTextFunction) {
-                        @Override
-                        public void render(MatrixStack matrices, int mouseX, int mouseY, int x, int y, int width, int height, float delta) {
-                            rendering = true;
-                            this.x = x;
-                            this.y = y;
-                            this.width = width;
-                            this.height = height;
-                            boolean b = mouseX >= x && mouseX <= x + width && mouseY >= y && mouseY <= y + height;
-                            if (b)
-                                fill(matrices, x + 1, y + 1, x + width - 1, y + height - 1, -15132391);
-                            MinecraftClient.getInstance().textRenderer.drawWithShadow(matrices, toTextFunction.apply(r), x + 6 + 18, y + 6, b ? 16777215 : 8947848);
-                            ItemRenderer itemRenderer = MinecraftClient.getInstance().getItemRenderer();
-                            itemRenderer.renderGuiItemIcon(s, x + 4, y + 2);
-                        }
-                    };
-                }
-                
-                @Override
-                public int getCellHeight() {
-                    return cellHeight;
-                }
-                
-                @Override
-                public int getCellWidth() {
-                    return cellWidth;
-                }
-                
-                @Override
-                public int getDropBoxMaxHeight() {
-                    return getCellHeight() * maxItems;
-                }
-            };
+            return new ItemStackSelectionCellCreator<>(cellHeight, cellWidth, maxItems, i -> new LiteralText(Registry.BLOCK.getId(i).toString()), ItemStack::new);
+        }
+        
+        /**
+         * Creates cells showing the item stack of their selection next to its text, the stack is only created once the cell is rendered.
+         */
+        public static class ItemStackSelectionCellCreator<T> extends DefaultSelectionCellCreator<T> {
+            protected final int cellHeight;
+            protected final int cellWidth;
+            protected final int maxItems;
+            protected final Function<T, ItemStack> stackFunction;
+            
+            public ItemStackSelectionCellCreator(int cellHeight, int cellWidth, int maxItems, Function<T, Text> toTextFunction, Function<T, ItemStack> stackFunction) {
+                super(toTextFunction);
+                this.cellHeight = cellHeight;
+                this.cellWidth = cellWidth;
+                this.maxItems = maxItems;
+                this.stackFunction = stackFunction;
+            }
+            
+            @Override
+            public DropdownBoxEntry.SelectionCellElement<T> create(T selection) {
+                return new ItemStackSelectionCellElement<>(selection, toTextFunction, stackFunction);
+            }
+            
+            @Override
+            protected Class<?> getCellFactoryClass() {
+                return ItemStackSelectionCellCreator.class;
+            }
+            
+            @Override
+            public boolean recycle(DropdownBoxEntry.SelectionCellElement<T> cell, T selection) {
+                if (cell.getClass() != ItemStackSelectionCellElement.class || ((ItemStackSelectionCellElement<T>) cell).stackFunction != stackFunction)
+                    return false;
+                ((ItemStackSelectionCellElement<T>) cell).rebind(selection);
+                return true;
+            }
+            
+            @Override
+            public int getCellHeight() {
+                return cellHeight;
+            }
+            
+            @Override
+            public int getCellWidth() {
+                return cellWidth;
+            }
+            
+            @Override
+            public int getDropBoxMaxHeight() {
+                return getCellHeight() * maxItems;
+            }
+        }
+        
+        public static class ItemStackSelectionCellElement<T> extends DropdownBoxEntry.DefaultSelectionCellElement<T> {
+            protected final Function<T, ItemStack> stackFunction;
+            @Nullable
+            protected ItemStack stack;
+            
+            public ItemStackSelectionCellElement(T selection, Function<T, Text> toTextFunction, Function<T, ItemStack> stackFunction) {
+                super(selection, toTextFunction);
+                this.stackFunction = stackFunction;
+            }
+            
+            @Override
+            protected void rebind(T selection) {
+                super.rebind(selection);
+                this.stack = null;
+            }
+            
+            public ItemStack getStack() {
+                if (stack == null)
+                    stack = stackFunction.apply(r);
+                return stack;
+            }
+            
+            @Override
+            public void render(MatrixStack matrices, int mouseX, int mouseY, int x, int y, int width, int height, float delta) {
+                rendering = true;
+                this.x = x;
+                this.y = y;
+                this.width = width;
+                this.height = height;
+                boolean b = mouseX >= x && mouseX <= x + width && mouseY >= y && mouseY <= y + height;
+                if (b)
+                    fill(matrices, x + 1, y + 1, x + width - 1, y + height - 1, -15132391);
+                MinecraftClient.getInstance().textRenderer.drawWithShadow(matrices, toTextFunction.apply(r), x + 6 + 18, y + 6, b ? 16777215 : 8947848);
+                ItemRenderer itemRenderer = MinecraftClient.getInstance().getItemRenderer();
+                itemRenderer.renderGuiItemIcon(getStack(), x + 4, y + 2);
+            }
         }
     }
 }
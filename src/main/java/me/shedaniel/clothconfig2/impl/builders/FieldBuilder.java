@@ -1,6 +1,7 @@
 package me.shedaniel.clothconfig2.impl.builders;
 
 import me.shedaniel.clothconfig2.api.AbstractConfigListEntry;
+import me.shedaniel.clothconfig2.impl.AsyncValidator;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.text.Text;
@@ -19,6 +20,9 @@ public abstract class FieldBuilder<T, A extends AbstractConfigListEntry> {
     protected boolean requireRestart = false;
     @Nullable protected Supplier<T> defaultValue = null;
     @Nullable protected Function<T, Optional<Text>> errorSupplier;
+    protected boolean errorSupplierPure = true;
+    @Nullable protected Function<T, Optional<Text>> asyncErrorSupplier;
+    protected long asyncErrorSupplierDebounceMillis = AsyncValidator.DEFAULT_DEBOUNCE_MILLIS;
     
     protected FieldBuilder(Text resetButtonKey, Text fieldNameKey) {
         this.resetButtonKey = Objects.requireNonNull(resetButtonKey);
@@ -57,4 +61,44 @@ public abstract class FieldBuilder<T, A extends AbstractConfigListEntry> {
         this.requireRestart = requireRestart;
     }
     
+    public boolean isErrorSupplierPure() {
+        return errorSupplierPure;
+    }
+    
+    /**
+     * Sets whether the error supplier only depends on the value of the field.
+     * Impure error suppliers are evaluated every time instead of once per edit.
+     *
+     * @param errorSupplierPure whether the error supplier is pure
+     */
+    public FieldBuilder<T, A> setErrorSupplierPure(boolean errorSupplierPure) {
+        this.errorSupplierPure = errorSupplierPure;
+        return this;
+    }
+    
+    /**
+     * Sets an error supplier which is evaluated on a background thread after the value stopped changing,
+     * use this for expensive checks. Saving waits for pending validations to settle.
+     *
+     * @param asyncErrorSupplier the error supplier, or {@code null} to remove it
+     */
+    public FieldBuilder<T, A> setAsyncErrorSupplier(@Nullable Function<T, Optional<Text>> asyncErrorSupplier) {
+        return setAsyncErrorSupplier(asyncErrorSupplier, AsyncValidator.DEFAULT_DEBOUNCE_MILLIS);
+    }
+    
+    public FieldBuilder<T, A> setAsyncErrorSupplier(@Nullable Function<T, Optional<Text>> asyncErrorSupplier, long debounceMillis) {
+        this.asyncErrorSupplier = asyncErrorSupplier;
+        this.asyncErrorSupplierDebounceMillis = debounceMillis;
+        return this;
+    }
+    
+    @SuppressWarnings("unchecked")
+    @NotNull
+    protected A finishBuilding(@NotNull A entry) {
+        entry.setErrorSupplierPure(errorSupplierPure);
+        if (asyncErrorSupplier != null)
+            entry.setAsyncErrorSupplier(asyncErrorSupplier, asyncErrorSupplierDebounceMillis);
+        return entry;
+    }
+    
 }
@@ -29,6 +29,24 @@ public class FloatFieldBuilder extends FieldBuilder<Float, FloatListEntry> {
         return this;
     }
     
+    @Override
+    public FloatFieldBuilder setErrorSupplierPure(boolean errorSupplierPure) {
+        super.setErrorSupplierPure(errorSupplierPure);
+        return this;
+    }
+    
+    @Override
+    public FloatFieldBuilder setAsyncErrorSupplier(Function<Float, Optional<Text>> asyncErrorSupplier) {
+        super.setAsyncErrorSupplier(asyncErrorSupplier);
+        return this;
+    }
+    
+    @Override
+    public FloatFieldBuilder setAsyncErrorSupplier(Function<Float, Optional<Text>> asyncErrorSupplier, long debounceMillis) {
+        super.setAsyncErrorSupplier(asyncErrorSupplier, debounceMillis);
+        return this;
+    }
+    
     public FloatFieldBuilder requireRestart() {
         requireRestart(true);
         return this;
@@ -100,7 +118,7 @@ public class FloatFieldBuilder extends FieldBuilder<Float, FloatListEntry> {
         entry.setTooltipSupplier(() -> tooltipSupplier.apply(entry.getValue()));
         if (errorSupplier != null)
             entry.setErrorSupplier(() -> errorSupplier.apply(entry.getValue()));
-        return entry;
+        return finishBuilding(entry);
     }
     
 }
@@ -33,6 +33,24 @@ public class IntSliderBuilder extends FieldBuilder<Integer, IntegerSliderEntry>
         return this;
     }
     
+    @Override
+    public IntSliderBuilder setErrorSupplierPure(boolean errorSupplierPure) {
+        super.setErrorSupplierPure(errorSupplierPure);
+        return this;
+    }
+    
+    @Override
+    public IntSliderBuilder setAsyncErrorSupplier(Function<Integer, Optional<Text>> asyncErrorSupplier) {
+        super.setAsyncErrorSupplier(asyncErrorSupplier);
+        return this;
+    }
+    
+    @Override
+    public IntSliderBuilder setAsyncErrorSupplier(Function<Integer, Optional<Text>> asyncErrorSupplier, long debounceMillis) {
+        super.setAsyncErrorSupplier(asyncErrorSupplier, debounceMillis);
+        return this;
+    }
+    
     public IntSliderBuilder requireRestart() {
         requireRestart(true);
         return this;
@@ -97,7 +115,7 @@ public class IntSliderBuilder extends FieldBuilder<Integer, IntegerSliderEntry>
         entry.setTooltipSupplier(() -> tooltipSupplier.apply(entry.getValue()));
         if (errorSupplier != null)
             entry.setErrorSupplier(() -> errorSupplier.apply(entry.getValue()));
-        return entry;
+        return finishBuilding(entry);
     }
     
 }
@@ -53,6 +53,24 @@ public class KeyCodeBuilder extends FieldBuilder<ModifierKeyCode, KeyCodeEntry>
         return setModifierErrorSupplier(keyCode -> errorSupplier.apply(keyCode.getKeyCode()));
     }
     
+    @Override
+    public KeyCodeBuilder setErrorSupplierPure(boolean errorSupplierPure) {
+        super.setErrorSupplierPure(errorSupplierPure);
+        return this;
+    }
+    
+    @Override
+    public KeyCodeBuilder setAsyncErrorSupplier(Function<ModifierKeyCode, Optional<Text>> asyncErrorSupplier) {
+        super.setAsyncErrorSupplier(asyncErrorSupplier);
+        return this;
+    }
+    
+    @Override
+    public KeyCodeBuilder setAsyncErrorSupplier(Function<ModifierKeyCode, Optional<Text>> asyncErrorSupplier, long debounceMillis) {
+        super.setAsyncErrorSupplier(asyncErrorSupplier, debounceMillis);
+        return this;
+    }
+    
     public KeyCodeBuilder setModifierErrorSupplier(@Nullable Function<ModifierKeyCode, Optional<Text>> errorSupplier) {
         this.errorSupplier = errorSupplier;
         return this;
@@ -124,7 +142,7 @@ public class KeyCodeBuilder extends FieldBuilder<ModifierKeyCode, KeyCodeEntry>
         entry.setAllowKey(allowKey);
         entry.setAllowMouse(allowMouse);
         entry.setAllowModifiers(allowModifiers);
-        return entry;
+        return finishBuilding(entry);
     }
     
 }
@@ -33,6 +33,24 @@ public class SelectorBuilder<T> extends FieldBuilder<T, SelectionListEntry<T>> {
         return this;
     }
     
+    @Override
+    public SelectorBuilder<T> setErrorSupplierPure(boolean errorSupplierPure) {
+        super.setErrorSupplierPure(errorSupplierPure);
+        return this;
+    }
+    
+    @Override
+    public SelectorBuilder<T> setAsyncErrorSupplier(Function<T, Optional<Text>> asyncErrorSupplier) {
+        super.setAsyncErrorSupplier(asyncErrorSupplier);
+        return this;
+    }
+    
+    @Override
+    public SelectorBuilder<T> setAsyncErrorSupplier(Function<T, Optional<Text>> asyncErrorSupplier, long debounceMillis) {
+        super.setAsyncErrorSupplier(asyncErrorSupplier, debounceMillis);
+        return this;
+    }
+    
     public SelectorBuilder<T> requireRestart() {
         requireRestart(true);
         return this;
@@ -86,7 +104,7 @@ public class SelectorBuilder<T> extends FieldBuilder<T, SelectionListEntry<T>> {
         entry.setTooltipSupplier(() -> tooltipSupplier.apply(entry.getValue()));
         if (errorSupplier != null)
             entry.setErrorSupplier(() -> errorSupplier.apply(entry.getValue()));
-        return entry;
+        return finishBuilding(entry);
     }
     
 }
@@ -30,6 +30,24 @@ public class StringFieldBuilder extends FieldBuilder<String, StringListEntry> {
         return this;
     }
     
+    @Override
+    public StringFieldBuilder setErrorSupplierPure(boolean errorSupplierPure) {
+        super.setErrorSupplierPure(errorSupplierPure);
+        return this;
+    }
+    
+    @Override
+    public StringFieldBuilder setAsyncErrorSupplier(Function<String, Optional<Text>> asyncErrorSupplier) {
+        super.setAsyncErrorSupplier(asyncErrorSupplier);
+        return this;
+    }
+    
+    @Override
+    public StringFieldBuilder setAsyncErrorSupplier(Function<String, Optional<Text>> asyncErrorSupplier, long debounceMillis) {
+        super.setAsyncErrorSupplier(asyncErrorSupplier, debounceMillis);
+        return this;
+    }
+    
     public StringFieldBuilder requireRestart() {
         requireRestart(true);
         return this;
@@ -77,7 +95,7 @@ public class StringFieldBuilder extends FieldBuilder<String, StringListEntry> {
         entry.setTooltipSupplier(() -> tooltipSupplier.apply(entry.getValue()));
         if (errorSupplier != null)
             entry.setErrorSupplier(() -> errorSupplier.apply(entry.getValue()));
-        return entry;
+        return finishBuilding(entry);
     }
     
 }
@@ -66,7 +66,7 @@ public class SubCategoryBuilder extends FieldBuilder<Object, SubCategoryListEntr
     public SubCategoryListEntry build() {
         SubCategoryListEntry entry = new SubCategoryListEntry(getFieldNameKey(), entries, expanded);
         entry.setTooltipSupplier(() -> tooltipSupplier.apply(entry.getValue()));
-        return entry;
+        return finishBuilding(entry);
     }
     
     @Override
@@ -50,7 +50,7 @@ public class TextDescriptionBuilder extends FieldBuilder<Text, TextListEntry> {
     @NotNull
     @Override
     public TextListEntry build() {
-        return new TextListEntry(getFieldNameKey(), value, color, tooltipSupplier);
+        return finishBuilding(new TextListEntry(getFieldNameKey(), value, color, tooltipSupplier));
     }
     
 }
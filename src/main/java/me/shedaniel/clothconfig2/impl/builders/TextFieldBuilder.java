@@ -30,6 +30,24 @@ public class TextFieldBuilder extends FieldBuilder<String, StringListEntry> {
         return this;
     }
     
+    @Override
+    public TextFieldBuilder setErrorSupplierPure(boolean errorSupplierPure) {
+        super.setErrorSupplierPure(errorSupplierPure);
+        return this;
+    }
+    
+    @Override
+    public TextFieldBuilder setAsyncErrorSupplier(Function<String, Optional<Text>> asyncErrorSupplier) {
+        super.setAsyncErrorSupplier(asyncErrorSupplier);
+        return this;
+    }
+    
+    @Override
+    public TextFieldBuilder setAsyncErrorSupplier(Function<String, Optional<Text>> asyncErrorSupplier, long debounceMillis) {
+        super.setAsyncErrorSupplier(asyncErrorSupplier, debounceMillis);
+        return this;
+    }
+    
     public TextFieldBuilder requireRestart() {
         requireRestart(true);
         return this;
@@ -77,7 +95,7 @@ public class TextFieldBuilder extends FieldBuilder<String, StringListEntry> {
         entry.setTooltipSupplier(() -> tooltipSupplier.apply(entry.getValue()));
         if (errorSupplier != null)
             entry.setErrorSupplier(() -> errorSupplier.apply(entry.getValue()));
-        return entry;
+        return finishBuilding(entry);
     }
     
 }
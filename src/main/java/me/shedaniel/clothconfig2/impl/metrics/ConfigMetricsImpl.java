@@ -0,0 +1,89 @@
+package me.shedaniel.clothconfig2.impl.metrics;
+
+import me.shedaniel.clothconfig2.ClothConfigInitializer;
+import me.shedaniel.clothconfig2.api.ConfigMetrics;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.fabricmc.loader.api.FabricLoader;
+import net.minecraft.text.Text;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Dispatches spans to the registered {@link ConfigMetrics}. Besides the {@code cloth-config2-metrics} entrypoints,
+ * spans are logged with the {@code cloth-config2.metrics.log} system property and emitted as JFR events
+ * with the {@code cloth-config2.metrics.jfr} system property.
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public final class ConfigMetricsImpl {
+    private static final List<ConfigMetrics> METRICS = new CopyOnWriteArrayList<>();
+    
+    static {
+        METRICS.addAll(FabricLoader.getInstance().getEntrypoints("cloth-config2-metrics", ConfigMetrics.class));
+        if (Boolean.getBoolean("cloth-config2.metrics.log"))
+            METRICS.add(new LogConfigMetrics());
+        if (Boolean.getBoolean("cloth-config2.metrics.jfr"))
+            loadJfrMetrics();
+    }
+    
+    /**
+     * JFR is missing from Java 8 runtimes before 8u262, the backend is only loaded by name once JFR is known to exist.
+     */
+    private static void loadJfrMetrics() {
+        try {
+            Class.forName("jdk.jfr.Event");
+        } catch (ClassNotFoundException e) {
+            ClothConfigInitializer.LOGGER.warn("[ClothConfig] JFR config metrics were requested but JFR is not available");
+            return;
+        }
+        try {
+            METRICS.add((ConfigMetrics) Class.forName("me.shedaniel.clothconfig2.impl.metrics.JfrConfigMetrics").getConstructor().newInstance());
+        } catch (Throwable throwable) {
+            ClothConfigInitializer.LOGGER.error("[ClothConfig] Failed to load JFR config metrics", throwable);
+        }
+    }
+    
+    private ConfigMetricsImpl() {}
+    
+    public static void register(ConfigMetrics metrics) {
+        METRICS.add(metrics);
+    }
+    
+    public static ConfigMetrics.Span begin(ConfigMetrics.SpanType type, Text screen, @Nullable Text category, @Nullable Text fieldName) {
+        if (METRICS.isEmpty())
+            return ConfigMetrics.Span.NONE;
+        if (METRICS.size() == 1)
+            return begin(METRICS.get(0), type, screen, category, fieldName);
+        ConfigMetrics.Span[] spans = new ConfigMetrics.Span[METRICS.size()];
+        for (int i = 0; i < spans.length; i++)
+            spans[i] = begin(METRICS.get(i), type, screen, category, fieldName);
+        return entryCount -> {
+            for (ConfigMetrics.Span span : spans)
+                span.end(entryCount);
+        };
+    }
+    
+    private static ConfigMetrics.Span begin(ConfigMetrics metrics, ConfigMetrics.SpanType type, Text screen, @Nullable Text category, @Nullable Text fieldName) {
+        ConfigMetrics.Span span;
+        try {
+            span = metrics.begin(type, screen, category, fieldName);
+        } catch (Throwable throwable) {
+            ClothConfigInitializer.LOGGER.error("[ClothConfig] Failed to begin metrics span %s", type, throwable);
+            return ConfigMetrics.Span.NONE;
+        }
+        if (span == null || span == ConfigMetrics.Span.NONE)
+            return ConfigMetrics.Span.NONE;
+        // Spans end in the middle of saving and rendering, a failing metrics backend must not interrupt those
+        return entryCount -> {
+            try {
+                span.end(entryCount);
+            } catch (Throwable throwable) {
+                ClothConfigInitializer.LOGGER.error("[ClothConfig] Failed to end metrics span %s", type, throwable);
+            }
+        };
+    }
+}
@@ -0,0 +1,55 @@
+package me.shedaniel.clothconfig2.impl.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import me.shedaniel.clothconfig2.api.ConfigMetrics;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.text.Text;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Emits spans as JFR events, these cost almost nothing unless a recording is running.
+ * This class is only loaded by name from {@link ConfigMetricsImpl} and left out when compiling without JFR.
+ */
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public class JfrConfigMetrics implements ConfigMetrics {
+    @Override
+    public Span begin(SpanType type, Text screen, @Nullable Text category, @Nullable Text fieldName) {
+        ConfigSpanEvent event = new ConfigSpanEvent();
+        if (!event.isEnabled())
+            return Span.NONE;
+        event.type = type.name();
+        event.screen = screen.getString();
+        event.category = category == null ? null : category.getString();
+        event.fieldName = fieldName == null ? null : fieldName.getString();
+        event.begin();
+        return entryCount -> {
+            event.end();
+            if (event.shouldCommit()) {
+                event.entryCount = entryCount;
+                event.commit();
+            }
+        };
+    }
+    
+    @Name("me.shedaniel.clothconfig2.ConfigSpan")
+    @Label("Config Screen Span")
+    @Category("Cloth Config")
+    static class ConfigSpanEvent extends Event {
+        @Label("Type")
+        String type;
+        @Label("Screen")
+        String screen;
+        @Label("Category")
+        String category;
+        @Label("Field Name")
+        String fieldName;
+        @Label("Entry Count")
+        int entryCount;
+    }
+}
@@ -0,0 +1,27 @@
+package me.shedaniel.clothconfig2.impl.metrics;
+
+import me.shedaniel.clothconfig2.ClothConfigInitializer;
+import me.shedaniel.clothconfig2.api.ConfigMetrics;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.text.Text;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+@ApiStatus.Internal
+@Environment(EnvType.CLIENT)
+public class LogConfigMetrics implements ConfigMetrics {
+    @Override
+    public Span begin(SpanType type, Text screen, @Nullable Text category, @Nullable Text fieldName) {
+        long start = System.nanoTime();
+        return entryCount -> {
+            long nanos = System.nanoTime() - start;
+            StringBuilder builder = new StringBuilder(screen.getString());
+            if (category != null)
+                builder.append(" / ").append(category.getString());
+            if (fieldName != null)
+                builder.append(" / ").append(fieldName.getString());
+            ClothConfigInitializer.LOGGER.info("[ClothConfig] %s of %s took %.3f ms (%d entries)", type, builder, nanos / 1000000.0, entryCount);
+        };
+    }
+}